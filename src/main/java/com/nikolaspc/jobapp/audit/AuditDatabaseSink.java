@@ -0,0 +1,25 @@
+package com.nikolaspc.jobapp.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes audit batches into the audit_events table with one JDBC batch insert per batch.
+ * A failed insert (e.g. primary unavailable) is retried by this sink's own AuditLog writer, so an
+ * outage only backs up the database queue while the file segments keep receiving events.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.audit.database.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditDatabaseSink implements AuditSink {
+
+    private final AuditEventRepository repository;
+
+    @Override
+    public void write(List<AuditEvent> batch) {
+        repository.insertAll(batch);
+    }
+}
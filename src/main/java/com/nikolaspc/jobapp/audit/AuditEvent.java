@@ -0,0 +1,39 @@
+package com.nikolaspc.jobapp.audit;
+
+import org.slf4j.MDC;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One audit record (BSI/GDPR evidence): who did what, with which outcome, when, and in which
+ * request. Never carries credentials; {@code details} holds only plain identifiers and reasons.
+ */
+public record AuditEvent(
+        Instant occurredAt,
+        String action,
+        String actor,
+        Outcome outcome,
+        String correlationId,
+        Map<String, String> details
+) {
+
+    private static final String CORRELATION_ID_LOG_VAR = "correlationId";
+
+    public enum Outcome {
+        SUCCESS,
+        FAILURE,
+        REJECTED
+    }
+
+    public AuditEvent {
+        details = details == null ? Map.of() : Map.copyOf(details);
+    }
+
+    /**
+     * Event happening now, in the current request (correlationId from the MDC).
+     */
+    public static AuditEvent of(String action, String actor, Outcome outcome, Map<String, String> details) {
+        return new AuditEvent(Instant.now(), action, actor, outcome, MDC.get(CORRELATION_ID_LOG_VAR), details);
+    }
+}
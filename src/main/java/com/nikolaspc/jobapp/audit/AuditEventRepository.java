@@ -0,0 +1,125 @@
+package com.nikolaspc.jobapp.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikolaspc.jobapp.dto.AuditEventDTO;
+import com.nikolaspc.jobapp.dto.AuditEventFilter;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Audit Events Table
+ * Plain JDBC access to the month-partitioned audit_events table (V7): batched inserts for
+ * {@link AuditDatabaseSink} and keyset pages ordered by (occurred_at DESC, id DESC).
+ * <p>
+ * English: Not a JPA entity on purpose. Rows are never updated, and Hibernate would only add a
+ * persistence context and a second-level cache region nobody needs.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditEventRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_events (occurred_at, action, actor, outcome, correlation_id, details)
+            VALUES (?, ?, ?, ?, ?, ?::jsonb)""";
+
+    private static final String SELECT_SQL = """
+            SELECT id, occurred_at, action, actor, outcome, correlation_id, details
+            FROM audit_events""";
+
+    private static final TypeReference<Map<String, String>> DETAILS_TYPE = new TypeReference<>() {};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * English: One batch round trip; the driver rewrites it into multi-row INSERTs (reWriteBatchedInserts)
+     */
+    public void insertAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setObject(1, event.occurredAt().atOffset(ZoneOffset.UTC));
+            ps.setString(2, event.action());
+            ps.setString(3, event.actor());
+            ps.setString(4, event.outcome().name());
+            ps.setString(5, event.correlationId());
+            ps.setString(6, toJson(event.details()));
+        });
+    }
+
+    /**
+     * @param after last row of the previous page, or null for the first page
+     * @param limit rows to fetch (callers ask for one more than the page size)
+     */
+    public List<AuditEventDTO> findPage(AuditEventFilter filter, KeysetCursor after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (filter.actor() != null) {
+            conditions.add("actor = ?");
+            args.add(filter.actor());
+        }
+        if (filter.action() != null) {
+            conditions.add("action = ?");
+            args.add(filter.action());
+        }
+        // English: Bounds on occurred_at let PostgreSQL skip every partition outside the range
+        if (filter.from() != null) {
+            conditions.add("occurred_at >= ?");
+            args.add(filter.from().atOffset(ZoneOffset.UTC));
+        }
+        if (filter.to() != null) {
+            conditions.add("occurred_at < ?");
+            args.add(filter.to().atOffset(ZoneOffset.UTC));
+        }
+        if (after != null) {
+            conditions.add("(occurred_at, id) < (?, ?)");
+            args.add(after.timestamp().atOffset(ZoneOffset.UTC));
+            args.add(after.id());
+        }
+
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY occurred_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), rowMapper(), args.toArray());
+    }
+
+    private RowMapper<AuditEventDTO> rowMapper() {
+        return (rs, rowNum) -> new AuditEventDTO(
+                rs.getLong("id"),
+                rs.getObject("occurred_at", OffsetDateTime.class).toInstant(),
+                rs.getString("action"),
+                rs.getString("actor"),
+                rs.getString("outcome"),
+                rs.getString("correlation_id"),
+                fromJson(rs.getString("details")));
+    }
+
+    private String toJson(Map<String, String> details) {
+        try {
+            return objectMapper.writeValueAsString(details);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Audit details are not serializable", ex);
+        }
+    }
+
+    private Map<String, String> fromJson(String details) {
+        try {
+            return objectMapper.readValue(details, DETAILS_TYPE);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Invalid audit details in database", ex);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.nikolaspc.jobapp.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Audit Log
+ * Entry point for audit events. {@link #record} only enqueues, so callers on the request path
+ * never wait for disk or the database. Every {@link AuditSink} has its own bounded queue and
+ * background writer that hands it the queued events in batches. A full queue drops the event
+ * for that sink only (counted) rather than blocking the request, so an outage of one sink (e.g.
+ * the primary database) never holds back or drops events for the others.
+ * <p>
+ * Metrics, tagged with the sink: audit.queue.depth, audit.events.lag (enqueue to durable write),
+ * audit.events.written and audit.events.dropped.
+ * <p>
+ * English: Stops after the web server, draining everything still queued before the sinks are closed;
+ * events recorded after that are written synchronously. A failing sink is only retried while running,
+ * so shutdown never waits on a sink that does not recover.
+ */
+@Slf4j
+@Component
+public class AuditLog implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 500;
+
+    private final List<SinkWriter> writers;
+    private final int maxBatchSize;
+    private final Duration retryDelay;
+    private final Duration shutdownTimeout;
+
+    private volatile boolean running;
+
+    public AuditLog(List<AuditSink> sinks, MeterRegistry meterRegistry,
+                    @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                    @Value("${app.audit.max-batch-size:500}") int maxBatchSize,
+                    @Value("${app.audit.retry-delay:1s}") Duration retryDelay,
+                    @Value("${app.audit.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.maxBatchSize = maxBatchSize;
+        this.retryDelay = retryDelay;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writers = sinks.stream()
+                .map(sink -> new SinkWriter(sink, queueCapacity, meterRegistry))
+                .toList();
+    }
+
+    public void record(AuditEvent event) {
+        Pending pending = new Pending(event, System.nanoTime());
+        for (SinkWriter writer : writers) {
+            writer.offer(pending);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writers.forEach(SinkWriter::start);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        // English: One deadline for all writers; they drain in parallel
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (SinkWriter writer : writers) {
+            writer.stop(deadline);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // English: Starts before and stops after the embedded web server (DEFAULT_PHASE - 2048)
+        return DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Queue, writer thread and metrics of one sink.
+     */
+    private final class SinkWriter {
+
+        private final AuditSink sink;
+        private final String name;
+        private final BlockingQueue<Pending> queue;
+        private final Timer lag;
+        private final Counter written;
+        private final Counter dropped;
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private Thread thread;
+
+        SinkWriter(AuditSink sink, int queueCapacity, MeterRegistry meterRegistry) {
+            this.sink = sink;
+            this.name = sink.getClass().getSimpleName();
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.lag = Timer.builder("audit.events.lag")
+                    .description("Time from recording an audit event until it is durably written")
+                    .tag("sink", name)
+                    .register(meterRegistry);
+            this.written = Counter.builder("audit.events.written").tag("sink", name).register(meterRegistry);
+            this.dropped = Counter.builder("audit.events.dropped")
+                    .description("Audit events lost because the queue was full or a sink failed outside the writer")
+                    .tag("sink", name)
+                    .register(meterRegistry);
+            Gauge.builder("audit.queue.depth", queue, BlockingQueue::size).tag("sink", name).register(meterRegistry);
+        }
+
+        void offer(Pending pending) {
+            if (!running) {
+                // English: Before start or after shutdown there is no writer to hand off to
+                writeNow(List.of(pending));
+                return;
+            }
+            if (!queue.offer(pending)) {
+                dropped.increment();
+                log.warn("Audit queue of {} full, event dropped | Action: {} | Actor: {}",
+                        name, pending.event().action(), pending.event().actor());
+            } else if (!running && queue.remove(pending)) {
+                // English: Enqueued just after the writer's final drain
+                writeNow(List.of(pending));
+            }
+        }
+
+        void start() {
+            thread = new Thread(this::drain, "audit-writer-" + name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop(long deadline) {
+            if (thread == null) {
+                return;
+            }
+            try {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                log.error("Audit writer of {} did not finish within {} | Events left: {}",
+                        name, shutdownTimeout, queue.size());
+                // English: Ends a retry sleep or a poll; a sink call stuck in I/O keeps the lock, see below
+                thread.interrupt();
+            }
+            if (!tryLock()) {
+                dropped.increment(queue.size());
+                log.error("Audit writer of {} is stuck in the sink, {} queued events dropped and sink left open",
+                        name, queue.size());
+                return;
+            }
+            try {
+                List<Pending> rest = new ArrayList<>();
+                queue.drainTo(rest);
+                if (!rest.isEmpty()) {
+                    write(rest, false);
+                }
+                try {
+                    sink.close();
+                } catch (IOException ex) {
+                    log.warn("Failed to close audit sink {} | Error: {}", name, ex.getMessage());
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private void drain() {
+            List<Pending> batch = new ArrayList<>(maxBatchSize);
+            // English: Keeps going after stop() until the queue is empty
+            while (running || !queue.isEmpty()) {
+                try {
+                    Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                    writeLock.lock();
+                    try {
+                        write(batch, true);
+                    } finally {
+                        writeLock.unlock();
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        /**
+         * Writes on the calling thread without retrying. Gives up (and counts the events as dropped)
+         * instead of waiting for a writer that is stuck in the sink.
+         */
+        private void writeNow(List<Pending> batch) {
+            if (!tryLock()) {
+                dropped.increment(batch.size());
+                log.error("Audit writer of {} is busy, {} events dropped", name, batch.size());
+                return;
+            }
+            try {
+                write(batch, false);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private boolean tryLock() {
+            try {
+                return writeLock.tryLock(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        /**
+         * @param retry keep retrying a failing sink while running (writer thread only; callers of
+         *              record() never wait)
+         */
+        private void write(List<Pending> batch, boolean retry) {
+            List<AuditEvent> events = batch.stream().map(Pending::event).toList();
+            if (!writeToSink(events, retry)) {
+                dropped.increment(events.size());
+                return;
+            }
+            long now = System.nanoTime();
+            for (Pending pending : batch) {
+                lag.record(now - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+            }
+            written.increment(events.size());
+        }
+
+        private boolean writeToSink(List<AuditEvent> events, boolean retry) {
+            // English: While this writer retries, new events queue up for this sink only (and are dropped
+            // once its queue is full). After stop() every batch gets a single attempt, so the drain
+            // finishes even if the sink never recovers
+            while (true) {
+                try {
+                    sink.write(events);
+                    return true;
+                } catch (IOException | RuntimeException ex) {
+                    log.error("Audit sink {} failed | Events: {} | Retry: {} | Error: {}",
+                            name, events.size(), retry, ex.getMessage());
+                    if (!retry || !running) {
+                        return false;
+                    }
+                    try {
+                        Thread.sleep(retryDelay.toMillis());
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+            }
+        }
+    }
+
+    private record Pending(AuditEvent event, long enqueuedAt) {
+    }
+}
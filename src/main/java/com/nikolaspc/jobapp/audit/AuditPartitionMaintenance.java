@@ -0,0 +1,106 @@
+package com.nikolaspc.jobapp.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Audit Partitions
+ * Keeps monthly audit_events partitions created ahead of time (so inserts never land in the
+ * default partition) and drops whole months once they are past the retention period. Rows that still
+ * reached the default partition (maintenance fell behind) are moved into their month's partition (V9).
+ * <p>
+ * English: Runs once the application is ready and then daily. Several instances may run it at the
+ * same time: creation is idempotent and a lost race only logs a warning.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.audit.database.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditPartitionMaintenance {
+
+    private static final String PARTITION_PREFIX = "audit_events_";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public AuditPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     @Value("${app.audit.database.months-ahead:3}") int monthsAhead,
+                                     @Value("${app.audit.database.retention-months:24}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.audit.database.maintenance-cron:0 30 2 * * *}", zone = "UTC")
+    public void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        try {
+            for (LocalDate month : monthsInDefaultPartition()) {
+                String partition = createPartition(month);
+                log.warn("Audit events moved out of the default partition | Partition: {}", partition);
+            }
+            for (int i = 0; i <= monthsAhead; i++) {
+                createPartition(current.plusMonths(i).atDay(1));
+            }
+            dropExpired(current.minusMonths(retentionMonths));
+        } catch (DataAccessException ex) {
+            log.warn("Audit partition maintenance failed | Error: {}", ex.getMessage());
+        }
+    }
+
+    private String createPartition(LocalDate month) {
+        return jdbcTemplate.queryForObject("SELECT create_audit_events_partition(?)", String.class, month);
+    }
+
+    // English: Also covers past months, which the months-ahead loop would never create
+    private List<LocalDate> monthsInDefaultPartition() {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT date_trunc('month', occurred_at AT TIME ZONE 'UTC')::date
+                FROM audit_events_default""", LocalDate.class);
+    }
+
+    /**
+     * English: Drops partitions for months strictly before {@code oldestKept}
+     */
+    private void dropExpired(YearMonth oldestKept) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'audit_events'::regclass""", String.class);
+        for (String partition : partitions) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("Audit partition past retention dropped | Partition: {}", partition);
+            }
+        }
+    }
+
+    private static YearMonth monthOf(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_MONTH);
+        } catch (DateTimeParseException ex) {
+            // English: audit_events_default and anything created by hand
+            return null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.nikolaspc.jobapp.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Audit Segment Files
+ * Appends audit batches as JSON lines to append-only segment files
+ * ({@code audit-<UTC timestamp>.jsonl}) and fsyncs after every batch, so a written batch survives
+ * a crash. A new segment starts every UTC day or once the current one reaches the segment size;
+ * segments older than the retention period are deleted whenever a segment is opened.
+ */
+@Slf4j
+@Component
+public class AuditSegmentFileSink implements AuditSink {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".jsonl";
+    private static final DateTimeFormatter SEGMENT_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long segmentSizeBytes;
+    private final Duration retention;
+    private final Clock clock;
+
+    private FileChannel segment;
+    private LocalDate segmentDay;
+
+    @Autowired
+    public AuditSegmentFileSink(ObjectMapper objectMapper,
+                                @Value("${app.audit.directory:./logs/audit}") Path directory,
+                                @Value("${app.audit.segment-size:64MB}") DataSize segmentSize,
+                                @Value("${app.audit.retention:30d}") Duration retention) {
+        this(objectMapper, directory, segmentSize, retention, Clock.systemUTC());
+    }
+
+    AuditSegmentFileSink(ObjectMapper objectMapper, Path directory, DataSize segmentSize, Duration retention,
+                         Clock clock) {
+        this.objectMapper = objectMapper;
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSize.toBytes();
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    @Override
+    public void write(List<AuditEvent> batch) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream(batch.size() * 256);
+        for (AuditEvent event : batch) {
+            objectMapper.writeValue(lines, event);
+            lines.write('\n');
+        }
+
+        FileChannel channel = segmentFor(lines.size());
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        // English: Data only; the file size is recovered from the content after a crash
+        channel.force(false);
+    }
+
+    private FileChannel segmentFor(int bytes) throws IOException {
+        LocalDate today = LocalDate.now(clock);
+        if (segment != null && (!today.equals(segmentDay) || segment.size() + bytes > segmentSizeBytes)) {
+            closeSegment();
+        }
+        if (segment == null) {
+            Files.createDirectories(directory);
+            deleteExpiredSegments();
+            Path file = directory.resolve(PREFIX + SEGMENT_NAME.format(clock.instant()) + SUFFIX);
+            for (int attempt = 1; Files.exists(file); attempt++) {
+                file = directory.resolve(PREFIX + SEGMENT_NAME.format(clock.instant()) + "-" + attempt + SUFFIX);
+            }
+            // English: CREATE_NEW + APPEND: a segment is never reopened or overwritten
+            segment = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            segmentDay = today;
+            log.info("Audit segment opened | File: {}", file);
+        }
+        return segment;
+    }
+
+    private void deleteExpiredSegments() throws IOException {
+        Instant cutoff = clock.instant().minus(retention);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    Files.delete(file);
+                    log.info("Audit segment past retention deleted | File: {}", file);
+                }
+            }
+        }
+    }
+
+    private void closeSegment() throws IOException {
+        try {
+            segment.close();
+        } finally {
+            segment = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (segment != null) {
+            closeSegment();
+        }
+    }
+}
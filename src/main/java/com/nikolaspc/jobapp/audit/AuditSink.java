@@ -0,0 +1,17 @@
+package com.nikolaspc.jobapp.audit;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Durable destination for audit batches, called from its own AuditLog writer thread only.
+ * A batch counts as written once {@link #write} returns; on an exception the same batch is
+ * offered again while the application is running.
+ */
+public interface AuditSink {
+
+    void write(List<AuditEvent> batch) throws IOException;
+
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,111 @@
+package com.nikolaspc.jobapp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.nikolaspc.jobapp.domain.Candidate;
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.cache.CacheNames;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Caffeine-backed Spring caches, each with its own size / TTL spec.
+ * Statistics are always recorded so Actuator exports cache.gets (hit/miss), cache.puts,
+ * cache.evictions and cache.load.duration per cache.
+ * <p>
+ * English: The caching advice runs before the transaction advice, so a cache hit never borrows a
+ * JDBC connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.job-offers:maximumSize=10000,expireAfterWrite=10m}") String jobOffersSpec,
+            @Value("${app.cache.users-by-email:maximumSize=10000,expireAfterWrite=5m}") String usersByEmailSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheNames.JOB_OFFERS, Caffeine.from(jobOffersSpec).recordStats().build());
+        cacheManager.registerCustomCache(CacheNames.USERS_BY_EMAIL, Caffeine.from(usersByEmailSpec).recordStats().build());
+        return cacheManager;
+    }
+
+    /**
+     * Second-Level Cache
+     * JCache (Caffeine) regions behind Hibernate's entity and query caches, separate from the Spring
+     * caches above. Region statistics are exported by Actuator as hibernate.second.level.cache.* and
+     * hibernate.query.cache.* (tagged by region).
+     * <p>
+     * English: Hibernate is told to fail on any region not created here, so every region has a bound.
+     */
+    @Bean(destroyMethod = "close")
+    public javax.cache.CacheManager hibernateCacheManager(
+            @Value("${app.cache.hibernate.job-offer:maximumSize=10000,expireAfterWrite=30m}") String jobOfferSpec,
+            @Value("${app.cache.hibernate.user:maximumSize=10000,expireAfterWrite=30m}") String userSpec,
+            @Value("${app.cache.hibernate.candidate:maximumSize=10000,expireAfterWrite=30m}") String candidateSpec,
+            @Value("${app.cache.hibernate.active-job-offers-query:maximumSize=10,expireAfterWrite=10m}") String activeOffersQuerySpec,
+            @Value("${app.cache.hibernate.default-query:maximumSize=1000,expireAfterWrite=10m}") String defaultQuerySpec) {
+        // English: One manager per application context (test runs start several contexts in one JVM)
+        javax.cache.CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("jobapp-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        cacheManager.createCache(JobOffer.class.getName(), region(jobOfferSpec));
+        cacheManager.createCache(User.class.getName(), region(userSpec));
+        cacheManager.createCache(Candidate.class.getName(), region(candidateSpec));
+        cacheManager.createCache(JobOfferRepository.ACTIVE_OFFERS_QUERY_REGION, region(activeOffersQuerySpec));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(defaultQuerySpec));
+        // English: Last write per table; must outlive every cached query result, so it never expires
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(""));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(javax.cache.CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    /**
+     * Region settings from the same "maximumSize=..,expireAfterWrite=.." syntax as the Spring caches.
+     */
+    static CaffeineConfiguration<Object, Object> region(String spec) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // English: Hibernate already stores disassembled copies, serializing them again would only cost time
+        configuration.setStoreByValue(false);
+        for (String option : spec.split(",")) {
+            if (option.isBlank()) {
+                continue;
+            }
+            String[] keyValue = option.trim().split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Invalid cache region option: " + option);
+            }
+            switch (keyValue[0]) {
+                case "maximumSize" -> configuration.setMaximumSize(OptionalLong.of(Long.parseLong(keyValue[1])));
+                case "expireAfterWrite" -> configuration.setExpireAfterWrite(
+                        OptionalLong.of(DurationStyle.detectAndParse(keyValue[1]).toNanos()));
+                default -> throw new IllegalArgumentException("Unsupported cache region option: " + option);
+            }
+        }
+        return configuration;
+    }
+}
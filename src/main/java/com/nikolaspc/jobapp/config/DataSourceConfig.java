@@ -0,0 +1,91 @@
+package com.nikolaspc.jobapp.config;
+
+import com.nikolaspc.jobapp.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Primary and read replica connection pools.
+ * Read-only transaction ({@code @Transactional(readOnly = true)}) connections go to the replicas
+ * listed in app.datasource.replicas.urls, everything else to the primary (spring.datasource.*).
+ * Without replicas the primary pool is used directly.
+ * <p>
+ * English: Replica reads can be up to max-lag behind, so reads that must see a write this instance
+ * just committed go through ReplicaRoutingDataSource.onPrimary.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final String REPLICAS_CONFIGURED = "!'${app.datasource.replicas.urls:}'.isBlank()";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression(REPLICAS_CONFIGURED)
+    public ReplicaRoutingDataSource replicaDataSource(
+            HikariDataSource primaryDataSource, MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.username:}") String username,
+            @Value("${app.datasource.replicas.password:}") String password,
+            @Value("${app.datasource.replicas.max-pool-size:10}") int maxPoolSize,
+            @Value("${app.datasource.replicas.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${app.datasource.replicas.max-lag:5s}") Duration maxLag) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            // English: Same driver settings as the primary pool, credentials default to the primary's too
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + replicas.size());
+            config.setJdbcUrl(url.trim());
+            if (StringUtils.hasText(username)) {
+                config.setUsername(username);
+                config.setPassword(password);
+            }
+            config.setMaximumPoolSize(maxPoolSize);
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setReadOnly(true);
+            // English: A replica that is down at startup must not keep the application from starting
+            config.setInitializationFailTimeout(-1);
+            replicas.put(config.getPoolName(), new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaDataSource) {
+        ReplicaRoutingDataSource replicas = replicaDataSource.getIfAvailable();
+        if (replicas == null) {
+            return primaryDataSource;
+        }
+        // English: Defers the physical connection until the transaction's read-only flag is set
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicas);
+        return dataSource;
+    }
+}
@@ -0,0 +1,12 @@
+package com.nikolaspc.jobapp.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. facet count reconciliation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,8 +1,11 @@
 package com.nikolaspc.jobapp.config;
 
+import com.nikolaspc.jobapp.security.BoundedPasswordEncoder;
 import com.nikolaspc.jobapp.security.JwtAuthenticationFilter;
 import com.nikolaspc.jobapp.security.JwtAuthenticationEntryPoint;
 import com.nikolaspc.jobapp.security.RequestLoggingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -23,6 +26,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -41,6 +45,19 @@ public class SecurityConfig {
     @Value("${springdoc.api-docs.enabled:false}")
     private boolean swaggerEnabled;
 
+    // English: BCrypt runs on its own bounded pool so auth bursts cannot starve request threads
+    @Value("${app.security.password-hashing.pool-size:0}")
+    private int passwordHashingPoolSize;
+
+    @Value("${app.security.password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${app.security.password-hashing.max-wait:5s}")
+    private Duration passwordHashingMaxWait;
+
+    @Value("${app.security.password-hashing.retry-after-seconds:2}")
+    private long passwordHashingRetryAfterSeconds;
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final RequestLoggingFilter requestLoggingFilter;
@@ -63,6 +80,11 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> {
+                    // English: Streamed responses (e.g. NDJSON export) finish on an ASYNC dispatch of a
+                    // request that was already authorized; the stateless JWT context is gone by then. The same
+                    // holds for the ERROR dispatch that renders a 403, which would otherwise turn into a 401
+                    authz.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll();
+
                     // 1. Auth & Public Endpoints
                     authz.requestMatchers("/api/auth/**", "/api/v1/auth/**").permitAll()
                             .requestMatchers(HttpMethod.GET, "/api/jobs/**", "/api/v1/jobs/**").permitAll()
@@ -82,8 +104,11 @@ public class SecurityConfig {
                     }
 
                     // 3. Management & Monitoring (Protected)
-                    // English: Any other actuator endpoint requires ADMIN role
+                    // English: Any other actuator endpoint and the admin API require ADMIN role
                     authz.requestMatchers("/actuator/**").hasRole("ADMIN");
+                    authz.requestMatchers("/api/admin/**").hasRole("ADMIN");
+                    // English: Bulk status changes are a recruiter action; candidates may only read their applications
+                    authz.requestMatchers(HttpMethod.PATCH, "/api/applications/status").hasAnyRole("RECRUITER", "ADMIN");
 
                     // 4. Default Lock
                     authz.anyRequest().authenticated();
@@ -103,7 +128,7 @@ public class SecurityConfig {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(allowedOrigins);
-        config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("Authorization", "Content-Type", "X-Correlation-ID"));
         config.setExposedHeaders(List.of("Authorization", "X-Correlation-ID"));
         config.setAllowCredentials(true);
@@ -113,8 +138,19 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        // English: 0 means "half of the available cores", keeping the rest for regular requests
+        int poolSize = passwordHashingPoolSize > 0
+                ? passwordHashingPoolSize
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(12),
+                poolSize,
+                passwordHashingQueueCapacity,
+                passwordHashingMaxWait,
+                passwordHashingRetryAfterSeconds,
+                meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,19 @@
+package com.nikolaspc.jobapp.config;
+
+import com.nikolaspc.jobapp.monitoring.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Decorates Spring's auto-configured task executor, which runs async tasks such as the NDJSON
+ * export, so their log lines keep the request's correlationId.
+ */
+@Configuration
+public class TaskExecutionConfig {
+
+    @Bean
+    public TaskDecorator mdcTaskDecorator() {
+        return new MdcTaskDecorator();
+    }
+}
@@ -0,0 +1,50 @@
+package com.nikolaspc.jobapp.controller;
+
+import com.nikolaspc.jobapp.dto.AuditEventDTO;
+import com.nikolaspc.jobapp.dto.AuditEventFilter;
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.service.AuditEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/admin/audit-events")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Audit trail lookups (ADMIN only)")
+public class AuditEventController {
+
+    private final AuditEventService service;
+
+    @GetMapping
+    @Operation(summary = "Get audit events page",
+            description = "Returns audit events, newest first, filtered by actor, action and time range. Pass the returned nextCursor to get the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Audit events page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or pagination cursor"),
+            @ApiResponse(responseCode = "403", description = "Caller is not an administrator")
+    })
+    public ResponseEntity<CursorPage<AuditEventDTO>> getAll(
+            @Parameter(description = "User email") @RequestParam(required = false) String actor,
+            @Parameter(description = "e.g. LOGIN, CANDIDATE_DELETE") @RequestParam(required = false) String action,
+            @Parameter(description = "Occurred at or after (ISO instant)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Occurred before (ISO instant)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Opaque cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max " + CursorPage.MAX_SIZE + ")") @RequestParam(required = false) Integer size) {
+        AuditEventFilter filter = new AuditEventFilter(actor, action, from, to);
+        return ResponseEntity.ok(service.findPage(filter, cursor, size));
+    }
+}
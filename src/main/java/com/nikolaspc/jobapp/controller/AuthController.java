@@ -3,12 +3,14 @@ package com.nikolaspc.jobapp.controller;
 import com.nikolaspc.jobapp.dto.AuthRequest;
 import com.nikolaspc.jobapp.dto.AuthResponse;
 import com.nikolaspc.jobapp.dto.RegisterRequest;
+import com.nikolaspc.jobapp.security.LoginRateLimiter;
 import com.nikolaspc.jobapp.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +33,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * Register new user
@@ -57,6 +60,8 @@ public class AuthController {
      * User login
      *
      * @param request AuthRequest with email and password
+     * @param httpRequest used for the client address (login throttling), resolved from X-Forwarded-For
+     *                    when the request came through a trusted proxy (server.forward-headers-strategy)
      * @return AuthResponse with JWT token
      */
     @PostMapping("/login")
@@ -68,8 +73,13 @@ public class AuthController {
                     schema = @Schema(implementation = AuthResponse.class)))
     @ApiResponse(responseCode = "401",
             description = "Invalid credentials")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
+    @ApiResponse(responseCode = "429",
+            description = "Too many login attempts for this IP or email")
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request,
+                                              HttpServletRequest httpRequest) {
         log.info("Login request received for email: {}", request.getEmail());
+        // English: Throttle before any DB lookup or BCrypt work is done
+        loginRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.getEmail());
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
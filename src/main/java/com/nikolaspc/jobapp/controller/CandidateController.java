@@ -1,6 +1,7 @@
 package com.nikolaspc.jobapp.controller;
 
 import com.nikolaspc.jobapp.dto.CandidateDTO;
+import com.nikolaspc.jobapp.dto.CursorPage;
 import com.nikolaspc.jobapp.service.CandidateService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -8,8 +9,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/candidates")
 @RequiredArgsConstructor
@@ -18,8 +17,10 @@ public class CandidateController {
     private final CandidateService candidateService;
 
     @GetMapping
-    public ResponseEntity<List<CandidateDTO>> getAllCandidates() {
-        return ResponseEntity.ok(candidateService.findAll());
+    public ResponseEntity<CursorPage<CandidateDTO>> getAllCandidates(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(candidateService.findPage(cursor, size));
     }
 
     @GetMapping("/{id}")
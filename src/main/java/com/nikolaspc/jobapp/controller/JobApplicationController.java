@@ -1,18 +1,28 @@
 package com.nikolaspc.jobapp.controller;
 
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateResult;
+import com.nikolaspc.jobapp.dto.CursorPage;
 import com.nikolaspc.jobapp.dto.JobApplicationDTO;
+import com.nikolaspc.jobapp.dto.JobApplicationFilter;
 import com.nikolaspc.jobapp.service.JobApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -23,10 +33,44 @@ public class JobApplicationController {
     private final JobApplicationService service;
 
     @GetMapping
-    @Operation(summary = "Get all applications", description = "Returns a list of all job applications")
-    @ApiResponse(responseCode = "200", description = "Applications list retrieved successfully")
-    public ResponseEntity<List<JobApplicationDTO>> getAll() {
-        return ResponseEntity.ok(service.findAll());
+    @Operation(summary = "Get applications page",
+            description = "Returns filtered job applications, newest first, one page at a time. Pass the returned nextCursor to get the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Applications page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or pagination cursor")
+    })
+    public ResponseEntity<CursorPage<JobApplicationDTO>> getAll(
+            @RequestParam(required = false) Long candidateId,
+            @RequestParam(required = false) Long jobOfferId,
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Applied at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedFrom,
+            @Parameter(description = "Applied before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedTo,
+            @Parameter(description = "Opaque cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max " + CursorPage.MAX_SIZE + ")") @RequestParam(required = false) Integer size) {
+        JobApplicationFilter filter = new JobApplicationFilter(candidateId, jobOfferId,
+                ApplicationStatus.parse(status), appliedFrom, appliedTo);
+        return ResponseEntity.ok(service.findPage(filter, cursor, size));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export applications",
+            description = "Streams every application matching the filters as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long candidateId,
+            @RequestParam(required = false) Long jobOfferId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedTo) {
+        JobApplicationFilter filter = new JobApplicationFilter(candidateId, jobOfferId,
+                ApplicationStatus.parse(status), appliedFrom, appliedTo);
+        StreamingResponseBody body = out -> service.exportNdjson(filter, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"applications.ndjson\"")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -49,4 +93,16 @@ public class JobApplicationController {
     public ResponseEntity<JobApplicationDTO> create(@RequestBody @Valid JobApplicationDTO dto) {
         return new ResponseEntity<>(service.create(dto), HttpStatus.CREATED);
     }
-}
\ No newline at end of file
+
+    @PatchMapping("/status")
+    @Operation(summary = "Bulk update application status",
+            description = "Sets the target status on the given application ids, or on every application of a job offer in the given current status. Returns one result per application; a job offer selection stops at the id limit and sets limitReached")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statuses updated; see the per-id results"),
+            @ApiResponse(responseCode = "400", description = "Invalid selection or too many ids"),
+            @ApiResponse(responseCode = "403", description = "Caller is not a recruiter or admin")
+    })
+    public ResponseEntity<BulkStatusUpdateResult> updateStatuses(@RequestBody @Valid BulkStatusUpdateRequest request) {
+        return ResponseEntity.ok(service.updateStatuses(request));
+    }
+}
@@ -1,19 +1,29 @@
 package com.nikolaspc.jobapp.controller;
 
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.PreparedJson;
+import com.nikolaspc.jobapp.dto.ResourceVersion;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetsDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferRequestDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
 import com.nikolaspc.jobapp.service.JobOfferService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.ZoneId;
 
 /**
  * REST Controller for managing Job Offers.
@@ -28,20 +38,94 @@ public class JobOfferController {
     private final JobOfferService service;
 
     @GetMapping
-    @Operation(summary = "Get all job offers", description = "Returns a list of all active job offers")
-    @ApiResponse(responseCode = "200", description = "Job offers list retrieved successfully")
-    public ResponseEntity<List<JobOfferResponseDTO>> getAll() {
-        return ResponseEntity.ok(service.findAll());
+    @Operation(summary = "Get job offers page",
+            description = "Returns job offers, newest first, one page at a time. Pass the returned nextCursor to get the next page. "
+                    + "Supports If-None-Match / If-Modified-Since")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job offers page retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "No job offer changed since the given ETag / date"),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination cursor")
+    })
+    public ResponseEntity<CursorPage<JobOfferResponseDTO>> getAll(
+            @Parameter(description = "Opaque cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max " + CursorPage.MAX_SIZE + ")") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Only return active offers") @RequestParam(defaultValue = "true") boolean activeOnly,
+            ServletWebRequest request) {
+        if (notModified(request, service.catalogVersion())) {
+            return null;
+        }
+        return ResponseEntity.ok(service.findPage(cursor, size, activeOnly));
+    }
+
+    @GetMapping(value = "/active", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get all active job offers",
+            description = "Returns every active job offer, gzip-encoded when the client accepts it. "
+                    + "Supports If-None-Match / If-Modified-Since")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active job offers retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "No active job offer changed since the given ETag / date")
+    })
+    public ResponseEntity<byte[]> getActive(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServletWebRequest request) {
+        PreparedJson snapshot = service.findActiveOffersJson();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // English: Each encoding is a different byte sequence, so it needs its own strong ETag
+        String etag = gzip ? snapshot.etag() + "-gzip" : snapshot.etag();
+        if (notModified(request, new ResourceVersion(etag, snapshot.lastModified()))) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? snapshot.gzip() : snapshot.json());
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search active job offers",
+            description = "Full-text search over title, location and description, best matches first. "
+                    + "Supports quoted phrases, OR and -exclusions. Pass the returned nextCursor to get the next page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty query or invalid pagination cursor")
+    })
+    public ResponseEntity<CursorPage<JobOfferResponseDTO>> search(
+            @Parameter(description = "Search terms") @RequestParam String q,
+            @Parameter(description = "Opaque cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max " + CursorPage.MAX_SIZE + ")") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(service.search(q, cursor, size));
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get job offer facets",
+            description = "Number of active job offers per location and employment type. "
+                    + "With q, only offers containing every search term are counted")
+    @ApiResponse(responseCode = "200", description = "Facet counts retrieved successfully")
+    public ResponseEntity<JobOfferFacetsDTO> facets(
+            @Parameter(description = "Optional search terms") @RequestParam(required = false) String q) {
+        return ResponseEntity.ok(service.facets(q));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get job offer by ID", description = "Returns a specific job offer by its unique identifier")
+    @Operation(summary = "Get job offer by ID",
+            description = "Returns a specific job offer by its unique identifier. Supports If-None-Match / If-Modified-Since")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job offer found"),
+            @ApiResponse(responseCode = "304", description = "Job offer unchanged since the given ETag / date"),
             @ApiResponse(responseCode = "404", description = "Job offer not found")
     })
-    public ResponseEntity<JobOfferResponseDTO> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.findById(id));
+    public ResponseEntity<JobOfferResponseDTO> getById(@PathVariable Long id, ServletWebRequest request) {
+        // English: Validators come from the (cached) body itself, so a 304 never confirms a body that was not sent
+        JobOfferResponseDTO offer = service.findById(id);
+        if (notModified(request, versionOf(offer))) {
+            return null;
+        }
+        return ResponseEntity.ok(offer);
     }
 
     @PostMapping
@@ -77,4 +161,39 @@ public class JobOfferController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Evaluates If-None-Match / If-Modified-Since before anything is loaded or serialized.
+     * When true, the 304 status, ETag and Last-Modified are already set and the handler returns no body.
+     */
+    private static boolean notModified(ServletWebRequest request, ResourceVersion version) {
+        // English: Let clients store the response but revalidate it on every use (replaces Spring Security's no-store)
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return request.checkNotModified(version.etag(), version.lastModified().toEpochMilli());
+    }
+
+    private static ResourceVersion versionOf(JobOfferResponseDTO offer) {
+        // English: createdAt/updatedAt are written with the JVM default zone (see JobOffer callbacks)
+        Instant modified = (offer.updatedAt() != null ? offer.updatedAt() : offer.createdAt())
+                .atZone(ZoneId.systemDefault()).toInstant();
+        return new ResourceVersion(
+                offer.id() + "-" + Long.toHexString(modified.getEpochSecond()) + "." + modified.getNano(), modified);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                // English: "gzip;q=0" explicitly refuses the encoding
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0{0,3})?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,185 @@
+package com.nikolaspc.jobapp.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Read Replica Routing
+ * Hands out read-only connections round-robin across the replicas that passed their last health
+ * check and are no further behind the primary than the configured lag. When no replica is usable
+ * (none up, all lagging, or every one refused a connection) the primary serves the read instead.
+ * <p>
+ * English: Installed as the read-only target of a LazyConnectionDataSourceProxy (see DataSourceConfig),
+ * which only fetches a physical connection once the transaction has marked it read-only.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    // English: A caught-up replica reports 0 even if the primary has been idle since its last commit
+    private static final String LAG_QUERY = """
+            SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 5;
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagMillis = maxLag.toMillis();
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only connections served by the primary because no replica was usable")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, ReplicaRoutingDataSource::availableReplicas)
+                .description("Replicas currently taking read-only connections")
+                .register(meterRegistry);
+        for (Replica replica : this.replicas) {
+            TimeGauge.builder("datasource.replica.lag", replica, TimeUnit.MILLISECONDS, r -> r.lagMillis)
+                    .tag("replica", replica.name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Runs {@code action} with every read-only connection it opens taken from the primary.
+     * For reads that must see this instance's own latest commit, e.g. rebuilding in-memory state
+     * right after a write, which a lagging replica may not have applied yet.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (Boolean.TRUE.equals(PRIMARY_ONLY.get())) {
+            return action.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!Boolean.TRUE.equals(PRIMARY_ONLY.get()) && !replicas.isEmpty()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (!replica.usable(maxLagMillis)) {
+                    continue;
+                }
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException ex) {
+                    // English: Out of rotation until the next health check reaches it again
+                    replica.markDown(ex);
+                }
+            }
+            fallbacks.increment();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections always use the configured credentials");
+    }
+
+    /**
+     * Measures every replica's lag behind the primary; unreachable replicas are marked down.
+     * Replicas start out down, so reads stay on the primary until the first check passes.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(HEALTH_CHECK_TIMEOUT_SECONDS);
+                try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                    resultSet.next();
+                    replica.markUp(resultSet.getLong(1), maxLagMillis);
+                }
+            } catch (SQLException ex) {
+                replica.markDown(ex);
+            }
+        }
+    }
+
+    int availableReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.usable(maxLagMillis)).count();
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.warn("Failed to close replica pool | Replica: {} | Error: {}", replica.name, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean up;
+        private volatile long lagMillis;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean usable(long maxLagMillis) {
+            return up && lagMillis <= maxLagMillis;
+        }
+
+        private void markUp(long lagMillis, long maxLagMillis) {
+            boolean wasUsable = usable(maxLagMillis);
+            this.lagMillis = lagMillis;
+            this.up = true;
+            if (!wasUsable && usable(maxLagMillis)) {
+                log.info("Replica taking reads | Replica: {} | Lag: {} ms", name, lagMillis);
+            } else if (wasUsable && !usable(maxLagMillis)) {
+                log.warn("Replica lagging, reads moved off it | Replica: {} | Lag: {} ms | Max: {} ms",
+                        name, lagMillis, maxLagMillis);
+            }
+        }
+
+        private void markDown(SQLException ex) {
+            if (up) {
+                log.warn("Replica down, reads moved off it | Replica: {} | Error: {}", name, ex.getMessage());
+            }
+            up = false;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.nikolaspc.jobapp.domain;
+
+import com.nikolaspc.jobapp.exception.BadRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lifecycle of a job application.
+ * <p>
+ * English: Stored as a SMALLINT code (V8). Codes are part of the schema: never reorder or reuse them,
+ * only append. Open states have the lowest codes, the partial indexes from V8 cover exactly those.
+ */
+public enum ApplicationStatus {
+    // English: Submitted, nobody has looked at it yet
+    PENDING(0),
+    // English: A recruiter is screening it
+    REVIEWING(1),
+    INTERVIEW(2),
+    OFFERED(3),
+    // English: Terminal states
+    ACCEPTED(4),
+    REJECTED(5),
+    WITHDRAWN(6);
+
+    private final short code;
+
+    ApplicationStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    /**
+     * Statuses this one may move to. Terminal statuses have none.
+     */
+    public Set<ApplicationStatus> allowedTransitions() {
+        return switch (this) {
+            case PENDING -> EnumSet.of(REVIEWING, REJECTED, WITHDRAWN);
+            case REVIEWING -> EnumSet.of(INTERVIEW, REJECTED, WITHDRAWN);
+            case INTERVIEW -> EnumSet.of(OFFERED, REJECTED, WITHDRAWN);
+            case OFFERED -> EnumSet.of(ACCEPTED, REJECTED, WITHDRAWN);
+            case ACCEPTED, REJECTED, WITHDRAWN -> EnumSet.noneOf(ApplicationStatus.class);
+        };
+    }
+
+    public boolean canTransitionTo(ApplicationStatus target) {
+        return allowedTransitions().contains(target);
+    }
+
+    public boolean isOpen() {
+        return !allowedTransitions().isEmpty();
+    }
+
+    /**
+     * Every status that may move to {@code target}.
+     */
+    public static Set<ApplicationStatus> sourcesOf(ApplicationStatus target) {
+        return Arrays.stream(values())
+                .filter(status -> status.canTransitionTo(target))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ApplicationStatus.class)));
+    }
+
+    public static ApplicationStatus fromCode(short code) {
+        for (ApplicationStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalStateException("Unknown application status code: " + code);
+    }
+
+    /**
+     * Parses client input (case-insensitive).
+     *
+     * @throws BadRequestException for anything that is not a status name
+     */
+    public static ApplicationStatus parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown application status '" + value + "'. Allowed: "
+                    + Arrays.toString(values()));
+        }
+    }
+}
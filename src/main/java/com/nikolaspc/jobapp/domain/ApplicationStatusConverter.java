@@ -0,0 +1,21 @@
+package com.nikolaspc.jobapp.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps {@link ApplicationStatus} to its stable SMALLINT code (not the ordinal, not the name).
+ */
+@Converter(autoApply = true)
+public class ApplicationStatusConverter implements AttributeConverter<ApplicationStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(ApplicationStatus status) {
+        return status == null ? null : status.code();
+    }
+
+    @Override
+    public ApplicationStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : ApplicationStatus.fromCode(code);
+    }
+}
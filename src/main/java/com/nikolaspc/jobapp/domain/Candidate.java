@@ -2,9 +2,14 @@ package com.nikolaspc.jobapp.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.domain.Persistable;
 import java.time.LocalDate;
 
+// English: Removed explicitly on delete (see CandidateServiceImpl), a cascaded row would stay cached
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 @Table(name = "candidates")
 @Getter
@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Builder
 public class JobApplication {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // English: Sequence ids (allocated in blocks of 50) keep JDBC batch inserts enabled
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_applications_id_gen")
+    @SequenceGenerator(name = "job_applications_id_gen", sequenceName = "job_applications_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -24,8 +26,9 @@ public class JobApplication {
     @JoinColumn(name = "job_offer_id", nullable = false)
     private JobOffer jobOffer;
 
-    @Column(nullable = false, length = 50)
-    private String status;
+    // English: SMALLINT code, see ApplicationStatusConverter
+    @Column(nullable = false)
+    private ApplicationStatus status;
 
     @Column(name = "applied_at", nullable = false, updatable = false)
     private LocalDateTime appliedAt;
@@ -33,6 +36,6 @@ public class JobApplication {
     @PrePersist
     protected void onCreate() {
         this.appliedAt = LocalDateTime.now();
-        if (this.status == null) this.status = "PENDING";
+        if (this.status == null) this.status = ApplicationStatus.PENDING;
     }
 }
\ No newline at end of file
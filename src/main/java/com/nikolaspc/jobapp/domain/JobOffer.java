@@ -3,10 +3,16 @@ package com.nikolaspc.jobapp.domain;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
+// English: Entity region of the second-level cache (configured in CacheConfig)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Entity
 @Table(name = "job_offers")
 @Getter
@@ -16,7 +22,9 @@ import java.util.List;
 @Builder
 public class JobOffer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // English: Sequence ids (allocated in blocks of 50) keep JDBC batch inserts enabled
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_offers_id_gen")
+    @SequenceGenerator(name = "job_offers_id_gen", sequenceName = "job_offers_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -46,14 +54,17 @@ public class JobOffer {
     @Builder.Default
     private List<JobApplication> applications = new ArrayList<>();
 
+    // English: Truncated to the column precision, so an offer cached right after the write carries the same
+    // timestamps (and HTTP validators) as one read back from the database
+
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         if (this.active == null) this.active = true;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.nikolaspc.jobapp.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * One row of the persisted audit trail (GET /api/admin/audit-events).
+ */
+public record AuditEventDTO(
+        Long id,
+        Instant occurredAt,
+        String action,
+        String actor,
+        String outcome,
+        String correlationId,
+        Map<String, String> details
+) {}
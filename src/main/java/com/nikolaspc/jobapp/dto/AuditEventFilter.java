@@ -0,0 +1,14 @@
+package com.nikolaspc.jobapp.dto;
+
+import java.time.Instant;
+
+/**
+ * Optional filters for GET /api/admin/audit-events. Null fields are ignored.
+ * The occurredAt range is half-open: [from, to).
+ */
+public record AuditEventFilter(
+        String actor,
+        String action,
+        Instant from,
+        Instant to
+) {}
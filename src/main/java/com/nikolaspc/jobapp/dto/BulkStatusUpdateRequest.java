@@ -0,0 +1,18 @@
+package com.nikolaspc.jobapp.dto;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Body of PATCH /api/applications/status. Selects the applications either by {@code ids} or by
+ * {@code jobOfferId} + {@code currentStatus} (exactly one of both).
+ */
+public record BulkStatusUpdateRequest(
+        List<Long> ids,
+        Long jobOfferId,
+        ApplicationStatus currentStatus,
+        @NotNull(message = "Target status is required")
+        ApplicationStatus targetStatus
+) {}
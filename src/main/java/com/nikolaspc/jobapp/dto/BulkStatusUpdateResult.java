@@ -0,0 +1,27 @@
+package com.nikolaspc.jobapp.dto;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status update, one entry per application id.
+ * Selections by job offer only list the applications that were updated, at most as many as a request
+ * may name by id; {@code limitReached} then tells the caller to repeat the request for the rest.
+ */
+public record BulkStatusUpdateResult(
+        ApplicationStatus targetStatus,
+        int updated,
+        List<Item> results,
+        boolean limitReached
+) {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        // English: The application's current status may not move to the target status
+        INVALID_TRANSITION
+    }
+
+    public record Item(Long id, Outcome outcome) {}
+}
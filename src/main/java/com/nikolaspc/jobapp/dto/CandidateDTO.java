@@ -10,6 +10,7 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -32,4 +33,7 @@ public class CandidateDTO {
     @NotNull(message = "Date of birth is required")
     @Past(message = "Date of birth must be in the past")
     private LocalDate dateOfBirth;
+
+    // English: Read-only, registration time of the underlying user (also the pagination sort key)
+    private LocalDateTime createdAt;
 }
\ No newline at end of file
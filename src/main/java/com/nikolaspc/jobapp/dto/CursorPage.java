@@ -0,0 +1,43 @@
+package com.nikolaspc.jobapp.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset (cursor) paginated listing.
+ * <p>
+ * {@code nextCursor} is an opaque token to pass back as {@code ?cursor=} for the following page;
+ * it is null when {@code hasMore} is false. No COUNT(*) is ever executed.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasMore
+) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * Clamps a client supplied page size into [1, MAX_SIZE].
+     */
+    public static int clampSize(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_SIZE;
+        }
+        return Math.max(1, Math.min(requested, MAX_SIZE));
+    }
+
+    /**
+     * Builds a page from a result fetched with {@code size + 1} rows: the extra row only tells us
+     * that another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size,
+                                          Function<E, ? extends PageCursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasMore = rows.size() > size;
+        List<E> pageRows = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(pageRows.get(size - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,17 @@
+package com.nikolaspc.jobapp.dto;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One NDJSON line of the application export.
+ * Selected as a constructor projection, so exported rows never enter the persistence context.
+ */
+public record JobApplicationExportRow(
+        Long id,
+        Long candidateId,
+        Long jobOfferId,
+        ApplicationStatus status,
+        LocalDateTime appliedAt
+) {}
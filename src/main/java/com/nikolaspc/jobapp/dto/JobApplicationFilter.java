@@ -0,0 +1,17 @@
+package com.nikolaspc.jobapp.dto;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for GET /api/applications. Null fields are ignored.
+ * The appliedAt range is half-open: [appliedFrom, appliedTo).
+ */
+public record JobApplicationFilter(
+        Long candidateId,
+        Long jobOfferId,
+        ApplicationStatus status,
+        LocalDateTime appliedFrom,
+        LocalDateTime appliedTo
+) {}
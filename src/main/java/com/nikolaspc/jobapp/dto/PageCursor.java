@@ -0,0 +1,9 @@
+package com.nikolaspc.jobapp.dto;
+
+/**
+ * Position of the last row of a page, serialized as an opaque token for {@link CursorPage#nextCursor()}.
+ */
+public interface PageCursor {
+
+    String encode();
+}
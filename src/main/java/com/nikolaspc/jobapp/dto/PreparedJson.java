@@ -0,0 +1,9 @@
+package com.nikolaspc.jobapp.dto;
+
+import java.time.Instant;
+
+/**
+ * A response body serialized ahead of time, plus its gzip encoding and HTTP validators.
+ * The arrays are shared between requests and must never be modified.
+ */
+public record PreparedJson(byte[] json, byte[] gzip, String etag, Instant lastModified) {}
@@ -0,0 +1,40 @@
+package com.nikolaspc.jobapp.dto;
+
+import com.nikolaspc.jobapp.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a relevance ranked page, ordered by (rank DESC, id DESC).
+ * Serialized as base64url("rank|id"); the float survives the round trip exactly.
+ */
+public record RankCursor(float rank, Long id) implements PageCursor {
+
+    private static final char SEPARATOR = '|';
+
+    @Override
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null for a missing / blank token (first page)
+     * @throws BadRequestException if the token was not produced by {@link #encode()}
+     */
+    public static RankCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new RankCursor(
+                    Float.parseFloat(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.nikolaspc.jobapp.dto;
+
+import java.time.Instant;
+
+/**
+ * HTTP validators of a resource: a strong ETag (unquoted) and its Last-Modified time.
+ */
+public record ResourceVersion(String etag, Instant lastModified) {}
@@ -0,0 +1,13 @@
+package com.nikolaspc.jobapp.dto.joboffer;
+
+/**
+ * Number of active offers for one (location, employment type) pair, as counted by PostgreSQL.
+ */
+public interface JobOfferFacetCount {
+
+    String getLocation();
+
+    String getEmploymentType();
+
+    long getTotal();
+}
@@ -0,0 +1,13 @@
+package com.nikolaspc.jobapp.dto.joboffer;
+
+/**
+ * Facet columns of one active offer, loaded without the (large) description.
+ */
+public interface JobOfferFacetRow {
+
+    Long getId();
+
+    String getLocation();
+
+    String getEmploymentType();
+}
@@ -0,0 +1,12 @@
+package com.nikolaspc.jobapp.dto.joboffer;
+
+import java.util.Map;
+
+/**
+ * Number of matching active offers per location and per employment type, most frequent first.
+ */
+public record JobOfferFacetsDTO(
+        long total,
+        Map<String, Long> location,
+        Map<String, Long> employmentType
+) {}
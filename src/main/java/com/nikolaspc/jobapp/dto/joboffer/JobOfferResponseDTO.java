@@ -9,5 +9,6 @@ public record JobOfferResponseDTO(
         String location,
         String employmentType,
         boolean active,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
 ) {}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.nikolaspc.jobapp.dto.joboffer;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the native full-text search query: the offer columns plus its relevance rank.
+ */
+public interface JobOfferSearchRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getLocation();
+
+    String getEmploymentType();
+
+    boolean isActive();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    float getRank();
+}
@@ -2,8 +2,10 @@ package com.nikolaspc.jobapp.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -73,6 +75,32 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Validation Failed", request, errors);
     }
 
+    // English: Malformed JSON or a value that does not fit the field type (e.g. an unknown status name)
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(
+            HttpMessageNotReadableException ex, HttpServletRequest request) {
+        log.debug("Unreadable request body at {}: {}", request.getRequestURI(), ex.getMostSpecificCause().getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Malformed request body", request, null);
+    }
+
+    // --- OVERLOAD PROTECTION ---
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex, HttpServletRequest request) {
+        log.warn("Service saturated at {}: {}", request.getRequestURI(), ex.getMessage());
+        return withRetryAfter(buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request, null),
+                ex.getRetryAfterSeconds());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        log.debug("Rate limit exceeded at {}: {}", request.getRequestURI(), ex.getMessage());
+        return withRetryAfter(buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), request, null),
+                ex.getRetryAfterSeconds());
+    }
+
     // --- GLOBAL FALLBACK ---
 
     @ExceptionHandler(Exception.class)
@@ -99,4 +127,10 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(error, status);
     }
+
+    private ResponseEntity<ErrorResponse> withRetryAfter(ResponseEntity<ErrorResponse> response, long retryAfterSeconds) {
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
+    }
 }
\ No newline at end of file
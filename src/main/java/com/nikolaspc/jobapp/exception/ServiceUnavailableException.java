@@ -0,0 +1,19 @@
+package com.nikolaspc.jobapp.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a bounded resource is saturated and the request should be retried later.
+ * Mapped to 503 with a Retry-After header by the GlobalExceptionHandler.
+ */
+@Getter
+public class ServiceUnavailableException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
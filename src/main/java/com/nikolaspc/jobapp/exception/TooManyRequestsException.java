@@ -0,0 +1,19 @@
+package com.nikolaspc.jobapp.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a client exceeds a rate limit.
+ * Mapped to 429 with a Retry-After header by the GlobalExceptionHandler.
+ */
+@Getter
+public class TooManyRequestsException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
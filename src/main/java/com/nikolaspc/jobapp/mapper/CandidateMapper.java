@@ -13,6 +13,7 @@ public interface CandidateMapper {
     @Mapping(target = "firstName", source = "user.firstName")
     @Mapping(target = "lastName", source = "user.lastName")
     @Mapping(target = "email", source = "user.email")
+    @Mapping(target = "createdAt", source = "user.createdAt")
     CandidateDTO toDto(Candidate candidate);
 
     @Mapping(target = "id", ignore = true)
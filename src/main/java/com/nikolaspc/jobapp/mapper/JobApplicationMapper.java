@@ -1,5 +1,6 @@
 package com.nikolaspc.jobapp.mapper;
 
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
 import com.nikolaspc.jobapp.domain.JobApplication;
 import com.nikolaspc.jobapp.dto.JobApplicationDTO;
 import org.mapstruct.Mapper;
@@ -17,4 +18,9 @@ public interface JobApplicationMapper {
     @Mapping(target = "candidate", ignore = true)
     @Mapping(target = "jobOffer", ignore = true)
     JobApplication toEntity(JobApplicationDTO dto);
+
+    // English: Unknown names become a 400 instead of MapStruct's IllegalArgumentException from valueOf
+    default ApplicationStatus toStatus(String status) {
+        return ApplicationStatus.parse(status);
+    }
 }
\ No newline at end of file
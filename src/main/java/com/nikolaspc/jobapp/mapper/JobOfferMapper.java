@@ -3,6 +3,7 @@ package com.nikolaspc.jobapp.mapper;
 import com.nikolaspc.jobapp.domain.JobOffer;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferRequestDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferSearchRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -19,6 +20,8 @@ public interface JobOfferMapper {
 
     JobOfferResponseDTO toResponseDto(JobOffer entity);
 
+    JobOfferResponseDTO toResponseDto(JobOfferSearchRow row);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -0,0 +1,38 @@
+package com.nikolaspc.jobapp.monitoring;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * MDC Task Decorator
+ * Carries the submitting thread's MDC (e.g. the correlationId set by RequestLoggingFilter) over
+ * to tasks run on Spring's task executors, such as streamed responses finishing asynchronously.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        // English: Captured at submit time, before RequestLoggingFilter clears the request thread's MDC
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            } else {
+                MDC.clear();
+            }
+            try {
+                runnable.run();
+            } finally {
+                // English: Pooled threads must not leak one task's context into the next
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.nikolaspc.jobapp.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction Hold-Time Profiling
+ * Measures how long each outermost @Transactional service method keeps its transaction
+ * (and therefore its pooled JDBC connection) open, including the commit.
+ * <p>
+ * Exported as the "app.transaction.hold" histogram tagged by method; slow holders are logged
+ * together with the correlationId set by RequestLoggingFilter.
+ */
+@Slf4j
+@Aspect
+@Component
+// English: Wrap the transaction interceptor so commit time is included (cache hits, ordered first, are not measured)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class TransactionHoldTimeAspect {
+
+    private static final String METRIC_NAME = "app.transaction.hold";
+    private static final String CORRELATION_ID_LOG_VAR = "correlationId";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public TransactionHoldTimeAspect(MeterRegistry meterRegistry,
+                                     @Value("${app.monitoring.transaction.slow-threshold:500ms}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Pointcut("within(com.nikolaspc.jobapp.service..*) && " +
+            "(@annotation(org.springframework.transaction.annotation.Transactional) || " +
+            "@within(org.springframework.transaction.annotation.Transactional))")
+    public void transactionalServiceMethods() {}
+
+    @Around("transactionalServiceMethods()")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        // English: Nested calls join the outer transaction, which is already being measured
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timerFor(method).record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed > slowThresholdNanos) {
+                log.warn("Slow transaction | Method: {} | Held: {}ms | CorrelationId: {}",
+                        method, TimeUnit.NANOSECONDS.toMillis(elapsed), MDC.get(CORRELATION_ID_LOG_VAR));
+            }
+        }
+    }
+
+    private Timer timerFor(String method) {
+        return timers.computeIfAbsent(method, name -> Timer.builder(METRIC_NAME)
+                .description("Time a @Transactional service method holds its transaction")
+                .tag("method", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -1,9 +1,15 @@
 package com.nikolaspc.jobapp.repository;
 
 import com.nikolaspc.jobapp.domain.Candidate;
+import com.nikolaspc.jobapp.dto.CandidateDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,4 +34,25 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
      * @return true if it exists, false otherwise.
      */
     boolean existsByUserEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * First page of candidates, newest registrations first.
+     * English: Constructor projection reads candidate and user columns in one joined SELECT,
+     * so no Candidate/User entities are loaded and the lazy user association is never touched.
+     */
+    @Query("""
+            select new com.nikolaspc.jobapp.dto.CandidateDTO(c.id, u.firstName, u.lastName, u.email, c.dateOfBirth, u.createdAt)
+            from Candidate c join c.user u
+            order by u.createdAt desc, u.id desc""")
+    List<CandidateDTO> findPage(Limit limit);
+
+    /**
+     * Next page after the (createdAt, id) keyset cursor.
+     */
+    @Query("""
+            select new com.nikolaspc.jobapp.dto.CandidateDTO(c.id, u.firstName, u.lastName, u.email, c.dateOfBirth, u.createdAt)
+            from Candidate c join c.user u
+            where (u.createdAt, u.id) < (:createdAt, :id)
+            order by u.createdAt desc, u.id desc""")
+    List<CandidateDTO> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+}
@@ -0,0 +1,19 @@
+package com.nikolaspc.jobapp.repository;
+
+import com.nikolaspc.jobapp.domain.JobApplication;
+import com.nikolaspc.jobapp.dto.JobApplicationExportRow;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for exports that must not materialize the whole result on the heap.
+ */
+public interface JobApplicationExportRepository {
+
+    /**
+     * Streams matching rows through a server-side cursor.
+     * Must be called inside a transaction and the stream must be closed by the caller.
+     */
+    Stream<JobApplicationExportRow> streamForExport(Specification<JobApplication> spec);
+}
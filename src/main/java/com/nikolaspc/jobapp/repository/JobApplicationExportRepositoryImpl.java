@@ -0,0 +1,47 @@
+package com.nikolaspc.jobapp.repository;
+
+import com.nikolaspc.jobapp.domain.JobApplication;
+import com.nikolaspc.jobapp.dto.JobApplicationExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+class JobApplicationExportRepositoryImpl implements JobApplicationExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public Stream<JobApplicationExportRow> streamForExport(Specification<JobApplication> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobApplicationExportRow> query = cb.createQuery(JobApplicationExportRow.class);
+        Root<JobApplication> root = query.from(JobApplication.class);
+
+        // English: FK ids are read from the join columns, no join to candidates / job_offers is needed
+        query.select(cb.construct(JobApplicationExportRow.class,
+                        root.get("id"),
+                        root.get("candidate").get("id"),
+                        root.get("jobOffer").get("id"),
+                        root.get("status"),
+                        root.get("appliedAt")))
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(cb.desc(root.get("appliedAt")), cb.desc(root.get("id")));
+
+        // English: PostgreSQL only honours the fetch size inside a transaction (autocommit off);
+        // otherwise the driver would buffer the whole result set
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,9 +1,25 @@
 package com.nikolaspc.jobapp.repository;
 
 import com.nikolaspc.jobapp.domain.JobApplication;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>,
+        JpaSpecificationExecutor<JobApplication>, JobApplicationExportRepository,
+        JobApplicationStatusRepository {
+
+    /**
+     * English: SELECT ... FOR UPDATE, so two concurrent status changes cannot both pass the transition check
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM JobApplication a WHERE a.id = :id")
+    Optional<JobApplication> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,70 @@
+package com.nikolaspc.jobapp.repository;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+import com.nikolaspc.jobapp.domain.JobApplication;
+import com.nikolaspc.jobapp.dto.JobApplicationFilter;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria building blocks for the filtered application listing.
+ * <p>
+ * Filters compare the foreign key columns directly (no joins), so the predicates
+ * line up with the composite indexes from V4.
+ */
+public final class JobApplicationSpecifications {
+
+    /** Keyset order; must match the index column order (applied_at DESC, id DESC). */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("appliedAt"), Sort.Order.desc("id"));
+
+    /** Open statuses are exactly the codes up to this one (see ApplicationStatus). */
+    private static final ApplicationStatus LAST_OPEN_STATUS = ApplicationStatus.OFFERED;
+
+    private JobApplicationSpecifications() {
+    }
+
+    public static Specification<JobApplication> matching(JobApplicationFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.candidateId() != null) {
+                predicates.add(cb.equal(root.get("candidate").get("id"), filter.candidateId()));
+            }
+            if (filter.jobOfferId() != null) {
+                predicates.add(cb.equal(root.get("jobOffer").get("id"), filter.jobOfferId()));
+            }
+            if (filter.status() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.status()));
+                if (filter.status().isOpen()) {
+                    // English: Redundant, but as a literal it lets PostgreSQL match the partial index
+                    // idx_job_applications_offer_open (V8) even with a generic plan for the bound status
+                    predicates.add(cb.lessThanOrEqualTo(root.get("status"), cb.literal(LAST_OPEN_STATUS)));
+                }
+            }
+            if (filter.appliedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("appliedAt"), filter.appliedFrom()));
+            }
+            if (filter.appliedTo() != null) {
+                predicates.add(cb.lessThan(root.get("appliedAt"), filter.appliedTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Rows strictly after the cursor in KEYSET_SORT order.
+     * English: Written as "appliedAt <= ts AND (appliedAt < ts OR id < cursorId)" so the first
+     * term is an index range condition and PostgreSQL can start the scan at the cursor.
+     */
+    public static Specification<JobApplication> after(KeysetCursor cursor) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("appliedAt"), cursor.timestamp()),
+                cb.or(
+                        cb.lessThan(root.get("appliedAt"), cursor.timestamp()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+}
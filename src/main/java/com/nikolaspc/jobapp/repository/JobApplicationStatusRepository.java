@@ -0,0 +1,39 @@
+package com.nikolaspc.jobapp.repository;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository fragment for set-based status changes: one UPDATE ... RETURNING per call instead of
+ * a load and a save per application.
+ * <p>
+ * English: Plain JDBC, so nothing is loaded into (or refreshed in) a persistence context. Callers
+ * must not hold managed JobApplication entities they expect to see the new status.
+ */
+public interface JobApplicationStatusRepository {
+
+    /**
+     * Moves the given applications to {@code newStatus}, but only those currently in one of
+     * {@code fromStatuses} (the transition check happens in the same statement).
+     *
+     * @return ids of the applications that now have the new status
+     */
+    List<Long> updateStatusByIds(List<Long> ids, Set<ApplicationStatus> fromStatuses, ApplicationStatus newStatus);
+
+    /**
+     * Moves at most {@code limit} applications of a job offer from one open status to another
+     * (lowest ids first).
+     *
+     * @return ids of the updated applications; empty once none are left (a shorter list may also mean
+     *         that other transactions moved some of the selected applications first)
+     */
+    List<Long> updateStatusByJobOffer(Long jobOfferId, ApplicationStatus currentStatus, ApplicationStatus newStatus,
+                                      int limit);
+
+    /**
+     * @return the subset of {@code ids} that exist
+     */
+    List<Long> findExistingIds(List<Long> ids);
+}
@@ -0,0 +1,67 @@
+package com.nikolaspc.jobapp.repository;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Set;
+
+class JobApplicationStatusRepositoryImpl implements JobApplicationStatusRepository {
+
+    private static final String UPDATE_BY_IDS = """
+            UPDATE job_applications SET status = ?
+            WHERE id = ANY(?) AND status = ANY(?)
+            RETURNING id""";
+
+    // English: The subquery bounds how many rows (and row locks) a single statement touches.
+    // "status <= 3" repeats the predicate of idx_job_applications_offer_open (V8) so even a generic
+    // plan can use it; the current status is always open because terminal statuses have no transitions.
+    // The outer "status = ?" is what PostgreSQL re-checks after waiting for a row lock, so a row another
+    // transaction moved meanwhile (e.g. to WITHDRAWN) is skipped instead of overwritten
+    private static final String UPDATE_BY_JOB_OFFER = """
+            UPDATE job_applications SET status = ?
+            WHERE id IN (SELECT id FROM job_applications
+                         WHERE job_offer_id = ? AND status = ? AND status <= 3
+                         ORDER BY id
+                         LIMIT ?)
+              AND status = ?
+            RETURNING id""";
+
+    private static final String SELECT_EXISTING = "SELECT id FROM job_applications WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JobApplicationStatusRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> updateStatusByIds(List<Long> ids, Set<ApplicationStatus> fromStatuses, ApplicationStatus newStatus) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPDATE_BY_IDS);
+            ps.setShort(1, newStatus.code());
+            // English: Array parameters, so the statement text (and plan) is the same for every chunk size
+            ps.setArray(2, connection.createArrayOf("bigint", ids.toArray()));
+            ps.setArray(3, connection.createArrayOf("smallint",
+                    fromStatuses.stream().map(ApplicationStatus::code).toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    @Override
+    public List<Long> updateStatusByJobOffer(Long jobOfferId, ApplicationStatus currentStatus, ApplicationStatus newStatus,
+                                             int limit) {
+        return jdbcTemplate.query(UPDATE_BY_JOB_OFFER, (rs, rowNum) -> rs.getLong(1),
+                newStatus.code(), jobOfferId, currentStatus.code(), limit, currentStatus.code());
+    }
+
+    @Override
+    public List<Long> findExistingIds(List<Long> ids) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_EXISTING);
+            ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+}
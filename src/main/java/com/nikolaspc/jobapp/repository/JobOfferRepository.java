@@ -1,10 +1,22 @@
 package com.nikolaspc.jobapp.repository;
 
 import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetCount;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetRow;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferSearchRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
@@ -14,5 +26,81 @@ public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
      * Al declarar este método, Spring Data JPA implementa automáticamente
      * la consulta: SELECT * FROM job_offers WHERE active = true
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ACTIVE_OFFERS_QUERY_REGION)
+    })
     List<JobOffer> findByActiveTrue();
-}
\ No newline at end of file
+
+    // English: Query cache region of findByActiveTrue (ids only, offers come from the entity region)
+    String ACTIVE_OFFERS_QUERY_REGION = "activeJobOffersQuery";
+
+    // English: Committed row straight from PostgreSQL, refreshing the second-level cache entry on the way.
+    // Used when another instance reports a write this instance's cache has not seen.
+    @QueryHints({
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+    })
+    @Query("select o from JobOffer o where o.id = :id")
+    Optional<JobOffer> findCommittedById(@Param("id") Long id);
+
+    // English: Source of the in-memory facet counts (startup load and periodic reconciliation)
+
+    @Query("select o.id as id, o.location as location, o.employmentType as employmentType from JobOffer o where o.active = true")
+    List<JobOfferFacetRow> findActiveFacetRows();
+
+    @Query("""
+            select o.location as location, o.employmentType as employmentType, count(o) as total
+            from JobOffer o where o.active = true
+            group by o.location, o.employmentType""")
+    List<JobOfferFacetCount> countActiveByFacets();
+
+    // English: Keyset pagination ordered by (created_at DESC, id DESC), backed by the V3 indexes.
+    // The row-value comparison lets PostgreSQL seek directly to the cursor, so deep pages cost the same as page one.
+
+    List<JobOffer> findByActiveTrueOrderByCreatedAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select o from JobOffer o
+            where o.active = true and (o.createdAt, o.id) < (:createdAt, :id)
+            order by o.createdAt desc, o.id desc""")
+    List<JobOffer> findActiveAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    List<JobOffer> findAllByOrderByCreatedAtDescIdDesc(Limit limit);
+
+    @Query("""
+            select o from JobOffer o
+            where (o.createdAt, o.id) < (:createdAt, :id)
+            order by o.createdAt desc, o.id desc""")
+    List<JobOffer> findAllAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // English: Full-text search over the generated search_vector column (V6), active offers only.
+    // The partial GIN index finds the matches; every match is ranked and a top-N sort keeps the best :limit,
+    // so results are the global best matches in one deterministic order (rank DESC, id DESC), which the
+    // keyset cursor of searchAfter relies on. Cost grows with the number of matches, not the catalogue size.
+
+    String SEARCH_RANKED = """
+            WITH ranked AS (
+                SELECT o.id, o.title, o.description, o.location, o.employment_type, o.active, o.created_at,
+                       o.updated_at, ts_rank_cd(o.search_vector, q) AS rank
+                FROM job_offers o, websearch_to_tsquery('simple', :query) q
+                WHERE o.active = TRUE AND o.search_vector @@ q
+            )
+            SELECT r.id AS "id", r.title AS "title", r.description AS "description", r.location AS "location",
+                   r.employment_type AS "employmentType", r.active AS "active", r.created_at AS "createdAt",
+                   r.updated_at AS "updatedAt", r.rank AS "rank"
+            FROM ranked r
+            """;
+
+    @Query(value = SEARCH_RANKED + """
+            ORDER BY r.rank DESC, r.id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<JobOfferSearchRow> search(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = SEARCH_RANKED + """
+            WHERE (r.rank, r.id) < (CAST(:rank AS real), :id)
+            ORDER BY r.rank DESC, r.id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<JobOfferSearchRow> searchAfter(@Param("query") String query, @Param("rank") float rank, @Param("id") Long id,
+                                        @Param("limit") int limit);
+}
@@ -2,6 +2,8 @@ package com.nikolaspc.jobapp.repository;
 
 import com.nikolaspc.jobapp.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -22,4 +24,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Checks if a user with that email exists
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Email of a user, without loading the entity (needed to evict cached lookups on delete)
+     */
+    @Query("select u.email from User u where u.id = :id")
+    Optional<String> findEmailById(@Param("id") Long id);
 }
\ No newline at end of file
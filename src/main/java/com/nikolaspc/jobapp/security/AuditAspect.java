@@ -1,46 +1,193 @@
 package com.nikolaspc.jobapp.security;
 
-import lombok.extern.slf4j.Slf4j;
+import com.nikolaspc.jobapp.audit.AuditEvent;
+import com.nikolaspc.jobapp.audit.AuditLog;
+import com.nikolaspc.jobapp.dto.AuthRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateResult;
+import com.nikolaspc.jobapp.dto.RegisterRequest;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Audit Aspect
  * * Generates explicit evidence for critical business operations (BSI/GDPR Compliance).
+ * <p>
+ * Records registrations, logins, candidate updates/deletions and (bulk) application status
+ * changes, successful or failed, as structured {@link AuditEvent}s (handed off to the AuditLog writer,
+ * never written on the request thread).
+ * <p>
+ * English: Outermost advice, so a SUCCESS is only recorded once the service transaction has committed.
  */
 @Aspect
 @Component
-@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
 public class AuditAspect {
 
-    private static final Logger auditLogger = LoggerFactory.getLogger("audit-logger");
+    private static final String UNKNOWN_ACTOR = "unknown";
+
+    private final AuditLog auditLog;
 
     // English: Monitor auth and user registration methods
     @Pointcut("execution(* com.nikolaspc.jobapp.service.AuthService.register(..)) || " +
             "execution(* com.nikolaspc.jobapp.service.AuthService.login(..))")
     public void securityOperations() {}
 
-    @AfterReturning(pointcut = "securityOperations()", returning = "result")
-    public void logSecurityAction(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().getName();
+    @Pointcut("execution(* com.nikolaspc.jobapp.service.CandidateService.update(..)) || " +
+            "execution(* com.nikolaspc.jobapp.service.CandidateService.delete(..))")
+    public void candidateOperations() {}
+
+    @Pointcut("execution(* com.nikolaspc.jobapp.service.JobApplicationService.updateStatus(..))")
+    public void applicationStatusOperations() {}
+
+    @Pointcut("execution(* com.nikolaspc.jobapp.service.JobApplicationService.updateStatuses(..))")
+    public void bulkApplicationStatusOperations() {}
+
+    @AfterReturning("securityOperations()")
+    public void logSecurityAction(JoinPoint joinPoint) {
+        auditLog.record(AuditEvent.of(action(joinPoint), credentialsActor(joinPoint), AuditEvent.Outcome.SUCCESS,
+                requestDetails()));
+    }
+
+    @AfterThrowing(pointcut = "securityOperations()", throwing = "ex")
+    public void logFailedSecurityAction(JoinPoint joinPoint, Exception ex) {
+        recordFailure(action(joinPoint), credentialsActor(joinPoint), requestDetails(), ex);
+    }
+
+    @AfterReturning("candidateOperations()")
+    public void logCandidateAction(JoinPoint joinPoint) {
+        auditLog.record(AuditEvent.of("CANDIDATE_" + action(joinPoint), authenticatedActor(), AuditEvent.Outcome.SUCCESS,
+                candidateDetails(joinPoint)));
+    }
+
+    @AfterThrowing(pointcut = "candidateOperations()", throwing = "ex")
+    public void logFailedCandidateAction(JoinPoint joinPoint, Exception ex) {
+        recordFailure("CANDIDATE_" + action(joinPoint), authenticatedActor(), candidateDetails(joinPoint), ex);
+    }
+
+    @AfterReturning("applicationStatusOperations()")
+    public void logApplicationStatusChange(JoinPoint joinPoint) {
+        auditLog.record(AuditEvent.of("APPLICATION_STATUS_CHANGE", authenticatedActor(), AuditEvent.Outcome.SUCCESS,
+                applicationStatusDetails(joinPoint)));
+    }
+
+    @AfterThrowing(pointcut = "applicationStatusOperations()", throwing = "ex")
+    public void logFailedApplicationStatusChange(JoinPoint joinPoint, Exception ex) {
+        recordFailure("APPLICATION_STATUS_CHANGE", authenticatedActor(), applicationStatusDetails(joinPoint), ex);
+    }
+
+    /**
+     * English: One event per request, listing every application it moved. One event per application
+     * could overrun the audit queues: a single request may move thousands.
+     */
+    @AfterReturning(pointcut = "bulkApplicationStatusOperations()", returning = "result")
+    public void logBulkApplicationStatusChange(JoinPoint joinPoint, BulkStatusUpdateResult result) {
+        Map<String, String> details = bulkStatusDetails(joinPoint);
+        details.put("updated", String.valueOf(result.updated()));
+        details.put("applicationIds", result.results().stream()
+                .filter(item -> item.outcome() == BulkStatusUpdateResult.Outcome.UPDATED)
+                .map(item -> String.valueOf(item.id()))
+                .collect(Collectors.joining(",")));
+        auditLog.record(AuditEvent.of("APPLICATION_STATUS_BULK_CHANGE", authenticatedActor(), AuditEvent.Outcome.SUCCESS,
+                details));
+    }
+
+    @AfterThrowing(pointcut = "bulkApplicationStatusOperations()", throwing = "ex")
+    public void logFailedBulkApplicationStatusChange(JoinPoint joinPoint, Exception ex) {
+        recordFailure("APPLICATION_STATUS_BULK_CHANGE", authenticatedActor(), bulkStatusDetails(joinPoint), ex);
+    }
+
+    private void recordFailure(String action, String actor, Map<String, String> details, Exception ex) {
+        details.put("reason", ex.getClass().getSimpleName());
+        auditLog.record(AuditEvent.of(action, actor, AuditEvent.Outcome.FAILURE, details));
+    }
+
+    private static String action(JoinPoint joinPoint) {
+        return joinPoint.getSignature().getName().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * English: Only the email is taken from the request DTOs; their toString() includes the password
+     * (OWASP Mitigation).
+     */
+    private static String credentialsActor(JoinPoint joinPoint) {
         Object[] args = joinPoint.getArgs();
+        if (args.length == 0) {
+            return UNKNOWN_ACTOR;
+        }
+        String email = null;
+        if (args[0] instanceof AuthRequest request) {
+            email = request.getEmail();
+        } else if (args[0] instanceof RegisterRequest request) {
+            email = request.getEmail();
+        }
+        return normalize(email);
+    }
+
+    /**
+     * English: The JWT filter authenticates with the email as principal name
+     */
+    private static String authenticatedActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return normalize(authentication != null ? authentication.getName() : null);
+    }
 
-        // English: Filter arguments to avoid logging passwords (OWASP Mitigation)
-        String userEmail = "unknown";
-        if (args.length > 0) {
-            // We assume the first argument contains the email in RegisterRequest/AuthRequest
-            // You can extract it more precisely based on your DTOs
-            userEmail = args[0].toString();
+    private static String normalize(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : UNKNOWN_ACTOR;
+    }
+
+    private static Map<String, String> candidateDetails(JoinPoint joinPoint) {
+        Map<String, String> details = requestDetails();
+        details.put("candidateId", String.valueOf(joinPoint.getArgs()[0]));
+        return details;
+    }
+
+    private static Map<String, String> applicationStatusDetails(JoinPoint joinPoint) {
+        Object[] args = joinPoint.getArgs();
+        Map<String, String> details = requestDetails();
+        details.put("applicationId", String.valueOf(args[0]));
+        details.put("status", String.valueOf(args[1]));
+        return details;
+    }
+
+    private static Map<String, String> bulkStatusDetails(JoinPoint joinPoint) {
+        Map<String, String> details = requestDetails();
+        if (joinPoint.getArgs()[0] instanceof BulkStatusUpdateRequest request) {
+            details.put("status", String.valueOf(request.targetStatus()));
+            if (request.ids() != null && !request.ids().isEmpty()) {
+                details.put("requestedIds", String.valueOf(request.ids().size()));
+            } else {
+                details.put("jobOfferId", String.valueOf(request.jobOfferId()));
+                details.put("currentStatus", String.valueOf(request.currentStatus()));
+            }
         }
+        return details;
+    }
 
-        auditLogger.info("SECURITY_EVENT | Action: {} | User: {} | Status: SUCCESS",
-                methodName.toUpperCase(), userEmail);
+    // English: getRemoteAddr is the client address, already resolved from X-Forwarded-For for trusted proxies
+    private static Map<String, String> requestDetails() {
+        Map<String, String> details = new HashMap<>();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getRequest().getRemoteAddr() != null) {
+            details.put("ip", attributes.getRequest().getRemoteAddr());
+        }
+        return details;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,308 @@
+package com.nikolaspc.jobapp.security;
+
+import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.exception.JwtException;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Allocation-light verifier for the exact token shape produced by {@link JwtTokenProvider}:
+ * header {"alg":"HS512"} and a flat payload with sub, role, userId, iat and exp.
+ * <p>
+ * Base64URL segments are decoded into thread-confined buffers and the HMAC is computed with a
+ * thread-confined {@link Mac}, so a successful verification only allocates the resulting principal.
+ * <p>
+ * {@link #verify} returns {@code null} for anything it does not fully understand (other algorithms,
+ * extra claims, escaped strings, nested values...). The caller must then fall back to jjwt.
+ */
+final class CompactJwsVerifier {
+
+    // English: Base64URL of {"alg":"HS512"} as emitted by jjwt 0.12 for our HS512 key
+    private static final String HS512_HEADER = "eyJhbGciOiJIUzUxMiJ9";
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final int MAX_TOKEN_LENGTH = 4096;
+
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] ROLE = ascii("role");
+    private static final byte[] USER_ID = ascii("userId");
+    private static final byte[] IAT = ascii("iat");
+    private static final byte[] EXP = ascii("exp");
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final byte[][] ROLE_NAMES = Arrays.stream(ROLES)
+            .map(role -> ascii(role.name()))
+            .toArray(byte[][]::new);
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<Mac> macs;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    CompactJwsVerifier(SecretKey signingKey) {
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA512");
+                mac.init(signingKey);
+                return mac;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("HmacSHA512 not available", ex);
+            }
+        });
+    }
+
+    /**
+     * @return the verified principal, or {@code null} if the token must be handled by jjwt
+     * @throws JwtException if the token has our exact shape but a wrong signature or is expired
+     */
+    JwtPrincipal verify(String token, Instant now) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH || !token.startsWith(HS512_HEADER)) {
+            return null;
+        }
+        int firstDot = HS512_HEADER.length();
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot >= length || token.charAt(firstDot) != '.' || secondDot < 0
+                || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        Buffers buf = buffers.get();
+        byte[] ascii = buf.ascii;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            ascii[i] = (byte) c;
+        }
+
+        int signatureLength = decode(ascii, secondDot + 1, length, buf.signature);
+        if (signatureLength != SIGNATURE_LENGTH) {
+            return null;
+        }
+        int payloadLength = decode(ascii, firstDot + 1, secondDot, buf.payload);
+        if (payloadLength <= 0) {
+            return null;
+        }
+
+        Mac mac = macs.get();
+        mac.update(ascii, 0, secondDot);
+        try {
+            mac.doFinal(buf.expected, 0);
+        } catch (GeneralSecurityException ex) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(buf.expected, buf.signature)) {
+            throw new JwtException("Invalid JWT signature");
+        }
+
+        JwtPrincipal principal = new PayloadScanner(buf.payload, payloadLength).scan();
+        if (principal != null && principal.isExpired(now)) {
+            throw new JwtException("Expired JWT token");
+        }
+        return principal;
+    }
+
+    /**
+     * Decodes unpadded Base64URL from {@code src[from, to)} into {@code dst}.
+     *
+     * @return number of decoded bytes, or -1 if the input is invalid or does not fit
+     */
+    private static int decode(byte[] src, int from, int to, byte[] dst) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return -1;
+        }
+        int decodedLength = length / 4 * 3 + Math.max(0, length % 4 - 1);
+        if (decodedLength > dst.length) {
+            return -1;
+        }
+
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            byte value = BASE64URL[src[i]];
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                dst[out++] = (byte) (bits >> bitCount);
+            }
+        }
+        return out;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class Buffers {
+        private final byte[] ascii = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+    }
+
+    /**
+     * Minimal scanner for a flat JSON object made only of our five known claims.
+     * Returns null as soon as it meets anything else.
+     */
+    private static final class PayloadScanner {
+
+        private final byte[] json;
+        private final int end;
+        private int pos;
+
+        private String subject;
+        private UserRole role;
+        private Long userId;
+        private long expiration = -1;
+
+        private PayloadScanner(byte[] json, int end) {
+            this.json = json;
+            this.end = end;
+        }
+
+        JwtPrincipal scan() {
+            if (!consume('{')) {
+                return null;
+            }
+            if (consume('}')) {
+                return null;
+            }
+            do {
+                int keyStart = readString();
+                int keyEnd = pos - 1;
+                if (keyStart < 0 || !consume(':') || !readClaim(keyStart, keyEnd)) {
+                    return null;
+                }
+            } while (consume(','));
+
+            if (!consume('}') || skipWhitespace() != end) {
+                return null;
+            }
+            if (subject == null || role == null || expiration < 0) {
+                return null;
+            }
+            return new JwtPrincipal(userId, subject, role, Instant.ofEpochSecond(expiration));
+        }
+
+        private boolean readClaim(int keyStart, int keyEnd) {
+            skipWhitespace();
+            if (matches(keyStart, keyEnd, SUB) && subject == null) {
+                int start = readString();
+                if (start < 0) {
+                    return false;
+                }
+                subject = new String(json, start, pos - 1 - start, StandardCharsets.UTF_8);
+                return true;
+            }
+            if (matches(keyStart, keyEnd, ROLE) && role == null) {
+                int start = readString();
+                if (start < 0) {
+                    return false;
+                }
+                for (int i = 0; i < ROLES.length; i++) {
+                    if (matches(start, pos - 1, ROLE_NAMES[i])) {
+                        role = ROLES[i];
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (matches(keyStart, keyEnd, USER_ID) && userId == null) {
+                long value = readLong();
+                if (value < 0) {
+                    return false;
+                }
+                userId = value;
+                return true;
+            }
+            if (matches(keyStart, keyEnd, EXP) && expiration < 0) {
+                expiration = readLong();
+                return expiration >= 0;
+            }
+            if (matches(keyStart, keyEnd, IAT)) {
+                return readLong() >= 0;
+            }
+            return false;
+        }
+
+        /**
+         * Reads a string without escape sequences.
+         *
+         * @return index of the first content byte (closing quote is at pos - 1), or -1
+         */
+        private int readString() {
+            skipWhitespace();
+            if (pos >= end || json[pos] != '"') {
+                return -1;
+            }
+            int start = ++pos;
+            while (pos < end) {
+                byte b = json[pos++];
+                if (b == '"') {
+                    return start;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Reads a non-negative integer that fits in a long, or returns -1.
+         */
+        private long readLong() {
+            skipWhitespace();
+            int start = pos;
+            long value = 0;
+            while (pos < end && json[pos] >= '0' && json[pos] <= '9') {
+                if (pos - start >= 18) {
+                    return -1;
+                }
+                value = value * 10 + (json[pos++] - '0');
+            }
+            return pos == start ? -1 : value;
+        }
+
+        private boolean consume(char expected) {
+            skipWhitespace();
+            if (pos < end && json[pos] == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private int skipWhitespace() {
+            while (pos < end && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+                pos++;
+            }
+            return pos;
+        }
+
+        private boolean matches(int start, int stop, byte[] expected) {
+            return Arrays.equals(json, start, stop, expected, 0, expected.length);
+        }
+    }
+}
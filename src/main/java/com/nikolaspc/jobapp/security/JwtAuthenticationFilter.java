@@ -21,7 +21,7 @@ import java.util.Collections;
  * * Intercepts every incoming HTTP request to:
  * 1. Extract the token from the Authorization header.
  * 2. Validate token signature and expiration.
- * 3. Extract user metadata (email, role, ID).
+ * 3. Extract user metadata (email, role, ID) in a single parse (cached per token).
  * 4. Populate the SecurityContextHolder for downstream authorization.
  */
 @Slf4j
@@ -46,26 +46,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             if (StringUtils.hasText(jwt)) {
-                // English: Verify if the token is valid before proceeding
-                if (jwtTokenProvider.validateToken(jwt)) {
-                    String email = jwtTokenProvider.getEmailFromToken(jwt);
-                    String role = jwtTokenProvider.getRoleFromToken(jwt).toString();
-                    Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+                // English: Verify the token and read all claims at once; throws JwtException if invalid
+                JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(jwt);
+                String email = principal.email();
+                String role = principal.role().name();
 
-                    // English: Create authentication token with ROLE_ prefix for Spring Security compatibility
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    email,
-                                    null,
-                                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
-                            );
+                // English: Create authentication token with ROLE_ prefix for Spring Security compatibility
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                email,
+                                null,
+                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                        );
 
-                    // English: Set custom details object to keep user metadata accessible in the context
-                    authentication.setDetails(new JwtUserDetails(userId, email, role));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                // English: Set custom details object to keep user metadata accessible in the context
+                authentication.setDetails(new JwtUserDetails(principal.userId(), email, role));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    log.debug("Successfully authenticated user: {} | Role: {}", email, role);
-                }
+                log.debug("Successfully authenticated user: {} | Role: {}", email, role);
             }
         } catch (JwtException ex) {
             // English: Log the error but continue the filter chain; EntryPoint will handle the 401
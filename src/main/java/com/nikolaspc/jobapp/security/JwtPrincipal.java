@@ -0,0 +1,20 @@
+package com.nikolaspc.jobapp.security;
+
+import com.nikolaspc.jobapp.domain.UserRole;
+
+import java.time.Instant;
+
+/**
+ * Verified identity extracted from a JWT.
+ * Built once per token (signature + expiration already checked) and safe to share between requests.
+ */
+public record JwtPrincipal(
+        Long userId,
+        String email,
+        UserRole role,
+        Instant expiresAt
+) {
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
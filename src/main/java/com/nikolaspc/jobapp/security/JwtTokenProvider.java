@@ -6,12 +6,14 @@ import com.nikolaspc.jobapp.exception.JwtException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -30,12 +32,37 @@ public class JwtTokenProvider {
     @Value("${app.jwt.expiration}")
     private long jwtExpirationInSeconds;
 
+    @Value("${app.jwt.fast-path.enabled:false}")
+    private boolean fastPathEnabled;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // English: Derived once from the secret; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+    private CompactJwsVerifier fastPathVerifier;
+
+    public JwtTokenProvider(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        if (fastPathEnabled) {
+            this.fastPathVerifier = new CompactJwsVerifier(signingKey);
+            log.info("JWT fast-path verification enabled (HS512 compact tokens, jjwt fallback)");
+        }
+    }
+
     /**
-     * Extracts the signing key from the secret string retrieved via Vault.
+     * Returns the signing key derived from the secret string retrieved via Vault.
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     public String generateToken(User user) {
@@ -68,29 +95,49 @@ public class JwtTokenProvider {
     }
 
     public String getEmailFromToken(String token) {
-        return getClaims(token).getSubject();
+        return resolvePrincipal(token).email();
     }
 
     public UserRole getRoleFromToken(String token) {
-        String role = getClaims(token).get("role", String.class);
-        return UserRole.valueOf(role);
+        return resolvePrincipal(token).role();
     }
 
     public Long getUserIdFromToken(String token) {
-        Object userId = getClaims(token).get("userId");
-        if (userId instanceof Number) {
-            return ((Number) userId).longValue();
-        }
-        return null;
+        return resolvePrincipal(token).userId();
     }
 
     public boolean validateToken(String token) {
+        resolvePrincipal(token);
+        return true;
+    }
+
+    /**
+     * Verifies the token and extracts every claim we need in a single pass.
+     * Tokens already verified are served from {@link VerifiedTokenCache} until they expire.
+     * When app.jwt.fast-path.enabled is set, tokens issued by this provider skip jjwt entirely.
+     *
+     * @throws JwtException if the signature, format or expiration is invalid
+     */
+    public JwtPrincipal resolvePrincipal(String token) {
+        JwtPrincipal cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        JwtPrincipal principal = fastPathVerifier != null
+                ? fastPathVerifier.verify(token, Instant.now())
+                : null;
+        if (principal == null) {
+            // English: Fast path disabled or token shape not recognized -> full jjwt validation
+            principal = toPrincipal(parseClaims(token));
+        }
+        verifiedTokenCache.put(token, principal);
+        return principal;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (SignatureException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
             throw new JwtException("Invalid JWT signature");
@@ -106,11 +153,24 @@ public class JwtTokenProvider {
         }
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private JwtPrincipal toPrincipal(Claims claims) {
+        String role = claims.get("role", String.class);
+        if (role == null || claims.getExpiration() == null) {
+            throw new JwtException("Token validation failed");
+        }
+
+        UserRole userRole;
+        try {
+            userRole = UserRole.valueOf(role);
+        } catch (IllegalArgumentException ex) {
+            throw new JwtException("Token validation failed");
+        }
+
+        Object userId = claims.get("userId");
+        return new JwtPrincipal(
+                userId instanceof Number number ? number.longValue() : null,
+                claims.getSubject(),
+                userRole,
+                Instant.ofEpochMilli(claims.getExpiration().getTime()));
     }
 }
\ No newline at end of file
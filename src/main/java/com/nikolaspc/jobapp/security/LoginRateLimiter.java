@@ -0,0 +1,162 @@
+package com.nikolaspc.jobapp.security;
+
+import com.nikolaspc.jobapp.audit.AuditEvent;
+import com.nikolaspc.jobapp.audit.AuditLog;
+import com.nikolaspc.jobapp.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Login Throttling
+ * In-process rate limiter applied to /api/auth/login before any DB lookup or BCrypt work
+ * (OWASP credential-stuffing mitigation).
+ * <p>
+ * Every remote IP and every email gets its own token bucket, implemented with GCRA: a single
+ * "theoretical arrival time" per key updated by CAS, so checks never take a lock.
+ * Memory is bounded by {@code maxKeys}. Only idle buckets (fully refilled) are evicted; while none
+ * is idle, attempts for keys without a bucket are throttled, so a flood of new keys never resets the
+ * limit of a key that is being throttled.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final AuditLog auditLog;
+
+    private final ConcurrentHashMap<String, AtomicLong> ipBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> emailBuckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${app.security.login-throttle.ip.burst:20}") int ipBurst,
+                            @Value("${app.security.login-throttle.ip.period:1m}") Duration ipPeriod,
+                            @Value("${app.security.login-throttle.email.burst:5}") int emailBurst,
+                            @Value("${app.security.login-throttle.email.period:1m}") Duration emailPeriod,
+                            @Value("${app.security.login-throttle.max-keys:100000}") int maxKeys,
+                            MeterRegistry meterRegistry,
+                            AuditLog auditLog) {
+        this(new Limit(ipBurst, ipPeriod), new Limit(emailBurst, emailPeriod), maxKeys, meterRegistry, System::nanoTime,
+                auditLog);
+    }
+
+    LoginRateLimiter(Limit ipLimit, Limit emailLimit, int maxKeys, MeterRegistry meterRegistry, LongSupplier nanoClock,
+                     AuditLog auditLog) {
+        this.ipLimit = ipLimit;
+        this.emailLimit = emailLimit;
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.auditLog = auditLog;
+        this.ipRejections = Counter.builder("auth.login.throttled").tag("key", "ip").register(meterRegistry);
+        this.emailRejections = Counter.builder("auth.login.throttled").tag("key", "email").register(meterRegistry);
+    }
+
+    /**
+     * Consumes one attempt for the IP and one for the email.
+     *
+     * @throws TooManyRequestsException if either key is over its limit
+     */
+    public void checkLogin(String remoteIp, String email) {
+        String normalizedEmail = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+
+        long ipWait = tryAcquire(ipBuckets, remoteIp, ipLimit);
+        if (ipWait > 0) {
+            ipRejections.increment();
+            reject("IP", remoteIp, normalizedEmail, ipWait);
+        }
+
+        long emailWait = tryAcquire(emailBuckets, normalizedEmail, emailLimit);
+        if (emailWait > 0) {
+            emailRejections.increment();
+            reject("EMAIL", remoteIp, normalizedEmail, emailWait);
+        }
+    }
+
+    /**
+     * @return 0 if the attempt is allowed, otherwise nanoseconds until the next attempt is allowed
+     */
+    private long tryAcquire(ConcurrentHashMap<String, AtomicLong> buckets, String key, Limit limit) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            long wait = evictIfFull(buckets, now);
+            if (wait > 0) {
+                return wait;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long base = Math.max(theoreticalArrival, now);
+            long wait = base - now - limit.tolerance();
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, base + limit.interval())) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Keeps each map under maxKeys. Only one thread sweeps at a time; the others carry on.
+     *
+     * @return 0 if there is room for a new key, otherwise nanoseconds until the first bucket is idle
+     */
+    private long evictIfFull(ConcurrentHashMap<String, AtomicLong> buckets, long now) {
+        if (buckets.size() < maxKeys || !sweeping.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            // English: A bucket whose arrival time is in the past is full again, forgetting it is free
+            buckets.values().removeIf(bucket -> bucket.get() <= now);
+            if (buckets.size() < maxKeys) {
+                return 0;
+            }
+
+            // English: Every bucket still limits its key; dropping one would hand it a fresh burst
+            long firstIdle = Long.MAX_VALUE;
+            for (AtomicLong bucket : buckets.values()) {
+                firstIdle = Math.min(firstIdle, bucket.get());
+            }
+            return Math.max(1, firstIdle - now);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void reject(String keyType, String remoteIp, String email, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        auditLog.record(AuditEvent.of("LOGIN_THROTTLED", email, AuditEvent.Outcome.REJECTED,
+                Map.of("ip", String.valueOf(remoteIp), "key", keyType)));
+        throw new TooManyRequestsException("Too many login attempts, please retry later", retryAfterSeconds);
+    }
+
+    /**
+     * GCRA parameters: one attempt every {@code interval} ns, with {@code burst} attempts allowed at once.
+     */
+    record Limit(long interval, long tolerance) {
+
+        Limit(int burst, Duration period) {
+            this(period.toNanos() / burst, (period.toNanos() / burst) * (burst - 1));
+        }
+    }
+}
@@ -6,15 +6,24 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Request Logging Filter
  * Implements Trace ID for request tracking and audit evidence (BSI Compliance).
+ * <p>
+ * Only a sample of requests gets the INFO "Incoming / Completed" lines. The sample rate can be set
+ * per path (first matching pattern wins). Failed (5xx) and slow requests are always logged, at WARN.
  */
 @Slf4j
 @Component
@@ -23,6 +32,29 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
     private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
     private static final String CORRELATION_ID_LOG_VAR = "correlationId";
 
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<PathSampleRate> pathSampleRates = new ArrayList<>();
+    private final double defaultSampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestLoggingFilter(@Value("${app.logging.requests.sample-rate:1.0}") double defaultSampleRate,
+                                @Value("${app.logging.requests.path-sample-rates:}") List<String> pathSampleRates,
+                                @Value("${app.logging.requests.slow-threshold:1s}") Duration slowThreshold) {
+        this.defaultSampleRate = checkRate(defaultSampleRate);
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        for (String entry : pathSampleRates) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected <path pattern>=<rate>: " + entry);
+            }
+            this.pathSampleRates.add(new PathSampleRate(entry.substring(0, separator).trim(),
+                    checkRate(Double.parseDouble(entry.substring(separator + 1).trim()))));
+        }
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -31,7 +63,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         // English: Generate or retrieve a unique Trace ID for the request
         String correlationId = request.getHeader(CORRELATION_ID_HEADER);
         if (correlationId == null || correlationId.isEmpty()) {
-            correlationId = UUID.randomUUID().toString();
+            correlationId = newCorrelationId();
         }
 
         // English: Add the ID to MDC (Mapped Diagnostic Context) for Logback/Logging system to use
@@ -40,19 +72,62 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         // English: Return the ID in the response headers for debugging/support tickets
         response.setHeader(CORRELATION_ID_HEADER, correlationId);
 
-        long startTime = System.currentTimeMillis();
+        boolean sampled = log.isInfoEnabled() && isSampled(request.getServletPath());
+        long startTime = System.nanoTime();
+        boolean failed = true;
         try {
-            log.info("Incoming Request | Method: {} | Path: {} | IP: {}",
-                    request.getMethod(), request.getServletPath(), request.getRemoteAddr());
+            if (sampled) {
+                log.info("Incoming Request | Method: {} | Path: {} | IP: {}",
+                        request.getMethod(), request.getServletPath(), request.getRemoteAddr());
+            }
 
             filterChain.doFilter(request, response);
+            failed = false;
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Request Completed | Status: {} | Duration: {}ms",
-                    response.getStatus(), duration);
+            long elapsed = System.nanoTime() - startTime;
+            if (failed || response.getStatus() >= 500 || elapsed >= slowThresholdNanos) {
+                log.warn("Request Completed | Method: {} | Path: {} | Status: {} | Duration: {}ms{}",
+                        request.getMethod(), request.getServletPath(), response.getStatus(),
+                        Duration.ofNanos(elapsed).toMillis(), failed ? " | Failed with exception" : "");
+            } else if (sampled) {
+                log.info("Request Completed | Status: {} | Duration: {}ms",
+                        response.getStatus(), Duration.ofNanos(elapsed).toMillis());
+            }
 
             // English: Must clear MDC to avoid context contamination in thread pools
             MDC.clear();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Random (version 4 format) id from ThreadLocalRandom. Only needs to be unique enough to tell
+     * requests apart, so it skips UUID.randomUUID()'s shared SecureRandom.
+     */
+    static String newCorrelationId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    private boolean isSampled(String path) {
+        double rate = defaultSampleRate;
+        for (PathSampleRate pathSampleRate : pathSampleRates) {
+            if (pathMatcher.match(pathSampleRate.pattern(), path)) {
+                rate = pathSampleRate.rate();
+                break;
+            }
+        }
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+
+    private record PathSampleRate(String pattern, double rate) {
+    }
+}
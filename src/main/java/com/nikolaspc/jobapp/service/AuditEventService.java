@@ -0,0 +1,48 @@
+package com.nikolaspc.jobapp.service;
+
+import com.nikolaspc.jobapp.audit.AuditEventRepository;
+import com.nikolaspc.jobapp.dto.AuditEventDTO;
+import com.nikolaspc.jobapp.dto.AuditEventFilter;
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Audit trail lookups for administrators (compliance), newest first.
+ * <p>
+ * English: Actors are stored as lower-cased emails, so the actor filter is normalized the same way.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditEventService {
+
+    private final AuditEventRepository repository;
+
+    @Transactional(readOnly = true)
+    public CursorPage<AuditEventDTO> findPage(AuditEventFilter filter, String cursor, Integer size) {
+        log.info("Fetching audit events page - Filter: {}", filter);
+        int pageSize = CursorPage.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        AuditEventFilter normalized = new AuditEventFilter(
+                filter.actor() != null ? filter.actor().trim().toLowerCase(Locale.ROOT) : null,
+                filter.action() != null ? filter.action().trim().toUpperCase(Locale.ROOT) : null,
+                filter.from(),
+                filter.to());
+
+        // English: One extra row tells us whether a next page exists without a COUNT(*)
+        List<AuditEventDTO> rows = repository.findPage(normalized, after, pageSize + 1);
+
+        return CursorPage.of(rows, pageSize,
+                event -> new KeysetCursor(LocalDateTime.ofInstant(event.occurredAt(), ZoneOffset.UTC), event.id()),
+                event -> event);
+    }
+}
@@ -5,32 +5,34 @@ import com.nikolaspc.jobapp.dto.AuthResponse;
 import com.nikolaspc.jobapp.dto.RegisterRequest;
 import com.nikolaspc.jobapp.dto.UserDto;
 import com.nikolaspc.jobapp.domain.User;
-import com.nikolaspc.jobapp.domain.UserRole;
-import com.nikolaspc.jobapp.domain.Candidate;
 import com.nikolaspc.jobapp.exception.JwtException;
 import com.nikolaspc.jobapp.exception.UserAlreadyExistsException;
 import com.nikolaspc.jobapp.repository.UserRepository;
-import com.nikolaspc.jobapp.repository.CandidateRepository;
 import com.nikolaspc.jobapp.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.Optional;
 
+/**
+ * Registration, login and token lookups.
+ * <p>
+ * English: Not transactional at class level on purpose. BCrypt (encode/matches) runs outside any
+ * transaction so a pooled JDBC connection is never held while hashing; only the actual writes
+ * are wrapped in a short transaction ({@link UserRegistrationService}).
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final CandidateRepository candidateRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserRegistrationService userRegistrationService;
+    private final UserLookupService userLookupService;
 
     public AuthResponse register(RegisterRequest request) {
         log.info("Registering new user with email: {}", request.getEmail());
@@ -39,36 +41,15 @@ public class AuthService {
             throw new UserAlreadyExistsException("Email already registered");
         }
 
-        // 1. Create and save User (Identity Master)
-        User user = User.builder()
-                .firstName(request.getFirstName())
-                .lastName(request.getLastName())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .role(request.getRole() != null ? request.getRole() : UserRole.CANDIDATE)
-                .active(true)
-                .build();
-
-        User savedUser = userRepository.save(user);
-
-        // 2. Create Candidate Profile if role is CANDIDATE
-        if (savedUser.getRole() == UserRole.CANDIDATE) {
-            Candidate candidate = Candidate.builder()
-                    .user(savedUser)
-                    .dateOfBirth(request.getDateOfBirth() != null ?
-                            request.getDateOfBirth() : LocalDate.of(1990, 1, 1))
-                    .isNewCandidate(true) // English: Matches the renamed field in Candidate entity
-                    .build();
-
-            candidateRepository.save(candidate);
-            log.info("Candidate profile created for User ID: {}", savedUser.getId());
-        }
+        // English: Hash first, then open the write transaction (uniqueness is still enforced by uk_users_email)
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        User savedUser = userRegistrationService.createUserAndProfile(request, encodedPassword);
 
         return generateAuthResponse(savedUser);
     }
 
-    @Transactional(readOnly = true)
     public AuthResponse login(AuthRequest request) {
+        // English: Short read-only lookup; the password check below runs without a connection
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new JwtException("User not found"));
 
@@ -82,11 +63,10 @@ public class AuthService {
         return jwtTokenProvider.validateToken(token);
     }
 
-    @Transactional(readOnly = true)
     public Optional<UserDto> getUserFromToken(String token) {
         try {
             String email = jwtTokenProvider.getEmailFromToken(token);
-            return userRepository.findByEmail(email).map(this::convertToDto);
+            return userLookupService.findByEmail(email);
         } catch (Exception e) {
             log.error("Error retrieving user from token: {}", e.getMessage());
             return Optional.empty();
@@ -100,13 +80,6 @@ public class AuthService {
     }
 
     private UserDto convertToDto(User user) {
-        return UserDto.builder()
-                .id(user.getId())
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .email(user.getEmail())
-                .role(user.getRole())
-                .active(user.getActive())
-                .build();
+        return UserLookupService.toDto(user);
     }
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package com.nikolaspc.jobapp.service;
 
 import com.nikolaspc.jobapp.dto.CandidateDTO;
-import java.util.List;
+import com.nikolaspc.jobapp.dto.CursorPage;
 
 public interface CandidateService {
-    List<CandidateDTO> findAll();
+    CursorPage<CandidateDTO> findPage(String cursor, Integer size);
     CandidateDTO findById(Long id);
     CandidateDTO save(CandidateDTO dto); // Cambiamos 'create' por 'save' para que el Controller lo vea
     CandidateDTO update(Long id, CandidateDTO dto);
@@ -1,12 +1,22 @@
 package com.nikolaspc.jobapp.service;
 
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateResult;
+import com.nikolaspc.jobapp.dto.CursorPage;
 import com.nikolaspc.jobapp.dto.JobApplicationDTO;
-import java.util.List;
+import com.nikolaspc.jobapp.dto.JobApplicationFilter;
+
+import java.io.OutputStream;
 
 public interface JobApplicationService {
-    List<JobApplicationDTO> findAll();
+    CursorPage<JobApplicationDTO> findPage(JobApplicationFilter filter, String cursor, Integer size);
     JobApplicationDTO findById(Long id);
+    /** Writes every matching application as NDJSON without loading the result into memory. */
+    long exportNdjson(JobApplicationFilter filter, OutputStream out);
     JobApplicationDTO create(JobApplicationDTO dto);
-    // Añadimos esto para que coincida con tu implementación
-    JobApplicationDTO updateStatus(Long id, String newStatus);
+    /** Moves one application along the status lifecycle; illegal transitions are rejected. */
+    JobApplicationDTO updateStatus(Long id, ApplicationStatus newStatus);
+    /** Set-based status change for many applications, in bounded chunks. */
+    BulkStatusUpdateResult updateStatuses(BulkStatusUpdateRequest request);
 }
\ No newline at end of file
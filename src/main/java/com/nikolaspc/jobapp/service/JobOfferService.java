@@ -1,13 +1,19 @@
 package com.nikolaspc.jobapp.service;
 
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.PreparedJson;
+import com.nikolaspc.jobapp.dto.ResourceVersion;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetsDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferRequestDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
-import java.util.List;
 
 public interface JobOfferService {
-    List<JobOfferResponseDTO> findAll();
-    List<JobOfferResponseDTO> findActiveOffers(); // <--- Nuevo
+    CursorPage<JobOfferResponseDTO> findPage(String cursor, Integer size, boolean activeOnly);
+    CursorPage<JobOfferResponseDTO> search(String query, String cursor, Integer size);
+    JobOfferFacetsDTO facets(String query);
+    PreparedJson findActiveOffersJson();
     JobOfferResponseDTO findById(Long id);
+    ResourceVersion catalogVersion();
     JobOfferResponseDTO create(JobOfferRequestDTO dto);
     JobOfferResponseDTO update(Long id, JobOfferRequestDTO dto);
     void delete(Long id);
@@ -0,0 +1,42 @@
+package com.nikolaspc.jobapp.service;
+
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.dto.UserDto;
+import com.nikolaspc.jobapp.repository.UserRepository;
+import com.nikolaspc.jobapp.service.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Cached user lookups for authenticated requests (e.g. GET /api/v1/users/me).
+ * <p>
+ * English: Only the public UserDto is cached, never the entity with its password hash. Unknown
+ * emails are not cached, so a user registered a moment ago is found immediately.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserLookupService {
+
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = CacheNames.USERS_BY_EMAIL, key = "#email", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<UserDto> findByEmail(String email) {
+        return userRepository.findByEmail(email).map(UserLookupService::toDto);
+    }
+
+    static UserDto toDto(User user) {
+        return UserDto.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .active(user.getActive())
+                .build();
+    }
+}
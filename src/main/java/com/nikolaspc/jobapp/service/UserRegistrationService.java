@@ -0,0 +1,63 @@
+package com.nikolaspc.jobapp.service;
+
+import com.nikolaspc.jobapp.domain.Candidate;
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.dto.RegisterRequest;
+import com.nikolaspc.jobapp.repository.CandidateRepository;
+import com.nikolaspc.jobapp.repository.UserRepository;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * The write transaction of a registration, called by {@link AuthService} once the password is hashed.
+ * <p>
+ * English: A bean of its own so the @Transactional proxy (and TransactionHoldTimeAspect) applies.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserRegistrationService {
+
+    private final UserRepository userRepository;
+    private final CandidateRepository candidateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public User createUserAndProfile(RegisterRequest request, String encodedPassword) {
+        // 1. Create and save User (Identity Master)
+        User user = User.builder()
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .email(request.getEmail())
+                .password(encodedPassword)
+                .role(request.getRole() != null ? request.getRole() : UserRole.CANDIDATE)
+                .active(true)
+                .build();
+
+        User savedUser = userRepository.save(user);
+
+        // 2. Create Candidate Profile if role is CANDIDATE
+        if (savedUser.getRole() == UserRole.CANDIDATE) {
+            Candidate candidate = Candidate.builder()
+                    .user(savedUser)
+                    .dateOfBirth(request.getDateOfBirth() != null ?
+                            request.getDateOfBirth() : LocalDate.of(1990, 1, 1))
+                    .isNewCandidate(true) // English: Matches the renamed field in Candidate entity
+                    .build();
+
+            candidateRepository.save(candidate);
+            log.info("Candidate profile created for User ID: {}", savedUser.getId());
+        }
+
+        // English: Drops anything any instance still caches under this email (e.g. a previous account)
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser.getEmail()));
+        return savedUser;
+    }
+}
@@ -0,0 +1,174 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nikolaspc.jobapp.datasource.ReplicaRoutingDataSource;
+import com.nikolaspc.jobapp.dto.PreparedJson;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.mapper.JobOfferMapper;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.InvalidationGapEvent;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Active Offers Snapshot
+ * The JSON array of all active job offers, serialized once and gzip-compressed once, then written
+ * as raw bytes by GET /api/jobs/active. Reads never touch the database, MapStruct or Jackson.
+ * <p>
+ * Built lazily on first use and rebuilt after every committed offer write. Rebuilds are swapped in
+ * atomically and coalesced: writes arriving while a rebuild runs are folded into one more rebuild.
+ * The strong ETag is a digest of the JSON, so it is identical across restarts and instances.
+ */
+@Slf4j
+@Component
+public class ActiveJobOffersSnapshot {
+
+    private final JobOfferRepository repository;
+    private final JobOfferMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final AtomicLong requestedGeneration = new AtomicLong(1);
+    private volatile long builtGeneration;
+    private volatile PreparedJson snapshot;
+
+    @Autowired
+    public ActiveJobOffersSnapshot(JobOfferRepository repository, JobOfferMapper mapper, ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this(repository, mapper, objectMapper, meterRegistry, Clock.systemUTC());
+    }
+
+    ActiveJobOffersSnapshot(JobOfferRepository repository, JobOfferMapper mapper, ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry, Clock clock) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        Gauge.builder("jobs.active.snapshot.size", this, s -> s.snapshot == null ? 0 : s.snapshot.json().length)
+                .description("Size of the pre-serialized active job offers response")
+                .baseUnit("bytes")
+                .tag("encoding", "identity")
+                .register(meterRegistry);
+        Gauge.builder("jobs.active.snapshot.size", this, s -> s.snapshot == null ? 0 : s.snapshot.gzip().length)
+                .description("Size of the pre-serialized active job offers response")
+                .baseUnit("bytes")
+                .tag("encoding", "gzip")
+                .register(meterRegistry);
+    }
+
+    public PreparedJson get() {
+        // English: Also retries a rebuild that failed after a write (e.g. database briefly unavailable)
+        if (snapshot == null || builtGeneration < requestedGeneration.get()) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        requestedGeneration.incrementAndGet();
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            // English: The write is already committed; the next read retries the rebuild
+            log.warn("Active job offers snapshot rebuild failed | OfferId: {} | Error: {}", event.id(), ex.getMessage());
+        }
+    }
+
+    @EventListener(InvalidationGapEvent.class)
+    public void invalidate() {
+        // English: Rebuilt by the next read rather than on the listener thread
+        requestedGeneration.incrementAndGet();
+    }
+
+    /**
+     * Rebuilds until the snapshot reflects every write requested so far. A thread that finds a
+     * rebuild in progress leaves its request to that thread instead of waiting.
+     */
+    private void refresh() {
+        do {
+            if (snapshot == null) {
+                // English: Nothing to serve yet, so the first readers wait for the initial build
+                rebuildLock.lock();
+            } else if (!rebuildLock.tryLock()) {
+                return;
+            }
+            try {
+                while (builtGeneration < requestedGeneration.get()) {
+                    long generation = requestedGeneration.get();
+                    snapshot = build(snapshot);
+                    builtGeneration = generation;
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+        } while (builtGeneration < requestedGeneration.get());
+    }
+
+    private PreparedJson build(PreparedJson previous) {
+        long start = System.nanoTime();
+        List<JobOfferResponseDTO> offers = ReplicaRoutingDataSource.onPrimary(repository::findByActiveTrue).stream()
+                .map(mapper::toResponseDto)
+                .toList();
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(offers);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Active job offers could not be serialized", ex);
+        }
+        String etag = digest(json);
+        if (previous != null && previous.etag().equals(etag)) {
+            return previous;
+        }
+
+        PreparedJson built = new PreparedJson(json, gzip(json), etag, clock.instant());
+        log.debug("Active job offers snapshot rebuilt | Offers: {} | Bytes: {} | Gzip: {} | Took: {}ms",
+                offers.size(), built.json().length, built.gzip().length, (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        // English: Compressed once per write and served many times, so the slowest level is worth it
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static String digest(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.nikolaspc.jobapp.domain.Candidate;
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.InvalidationGapEvent;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached reads once the write that made them stale has committed.
+ * <p>
+ * Evicting before the commit would let a concurrent reader re-cache the old row. The remaining
+ * window (a reader that loaded the old row just before the commit and stores it just after) is
+ * bounded by each cache's expireAfterWrite. Writes committed on other instances arrive as remote
+ * events through ClusterInvalidationBus and also evict Hibernate's second-level cache, which only
+ * sees local writes; when some may have been missed, everything is cleared.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private final CacheManager cacheManager;
+    private final SessionFactory sessionFactory;
+
+    // English: Ordered first, so listeners that reload offers (index, snapshot) never read stale cache entries
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        cache(CacheNames.JOB_OFFERS).evict(event.id());
+        if (event.remote()) {
+            // English: Hibernate only tracks local writes in the second-level cache
+            sessionFactory.getCache().evictEntityData(JobOffer.class, event.id());
+            sessionFactory.getCache().evictQueryRegion(JobOfferRepository.ACTIVE_OFFERS_QUERY_REGION);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Cache users = cache(CacheNames.USERS_BY_EMAIL);
+        event.emails().forEach(users::evict);
+        if (event.remote()) {
+            // English: Remote user events carry emails, not ids; user writes are rare enough to drop both regions
+            sessionFactory.getCache().evictEntityData(User.class);
+            sessionFactory.getCache().evictEntityData(Candidate.class);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(InvalidationGapEvent.class)
+    public void onInvalidationGap() {
+        cache(CacheNames.JOB_OFFERS).clear();
+        cache(CacheNames.USERS_BY_EMAIL).clear();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,13 @@
+package com.nikolaspc.jobapp.service.cache;
+
+/**
+ * Names of the Spring caches configured in CacheConfig.
+ */
+public final class CacheNames {
+
+    public static final String JOB_OFFERS = "jobOffers";
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+
+    private CacheNames() {
+    }
+}
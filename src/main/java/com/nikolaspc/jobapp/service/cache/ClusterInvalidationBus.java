@@ -0,0 +1,257 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.nikolaspc.jobapp.datasource.ReplicaRoutingDataSource;
+import com.nikolaspc.jobapp.mapper.JobOfferMapper;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.InvalidationGapEvent;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cluster Invalidation Bus
+ * Tells every other instance about committed job offer and user writes through PostgreSQL
+ * LISTEN/NOTIFY, so their caches, search index, facet counts and snapshots do not go stale.
+ * <p>
+ * Sending: the key of each changed entity is NOTIFYed on the writing transaction's own connection.
+ * PostgreSQL delivers it only once that transaction commits (and drops it on rollback), so peers
+ * hear about the write after commit without a second connection, even if this instance dies right
+ * after committing. Identical keys within one transaction are delivered once.
+ * <p>
+ * Receiving: a daemon thread keeps one pooled connection in LISTEN mode and UNLISTENs before handing
+ * it back, also after a failed replay. Notifications sent by this instance are skipped; the others are
+ * replayed locally as remote {@link JobOfferChangedEvent}s (re-read from the database) and
+ * {@link UserChangedEvent}s. Anything sent while the listener is disconnected is lost, so each
+ * reconnect publishes an {@link InvalidationGapEvent} instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class ClusterInvalidationBus implements SmartLifecycle {
+
+    static final String JOB_OFFER = "J";
+    static final String USER = "U";
+
+    private static final String SEPARATOR = ":";
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JobOfferRepository repository;
+    private final JobOfferMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final Duration pollInterval;
+    private final Duration reconnectDelay;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter received;
+    private final Counter gaps;
+
+    private final CountDownLatch firstListen = new CountDownLatch(1);
+    private volatile boolean running;
+    private volatile boolean startedLate;
+    private Thread listener;
+
+    public ClusterInvalidationBus(DataSource dataSource, JdbcTemplate jdbcTemplate, JobOfferRepository repository,
+                                  JobOfferMapper mapper, ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.cache.invalidation.channel:job_app_cache_invalidation}") String channel,
+                                  @Value("${app.cache.invalidation.poll-interval:10s}") Duration pollInterval,
+                                  @Value("${app.cache.invalidation.reconnect-delay:5s}") Duration reconnectDelay) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel name: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.repository = repository;
+        this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+        this.reconnectDelay = reconnectDelay;
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("Invalidations received from other instances")
+                .register(meterRegistry);
+        this.gaps = Counter.builder("cache.invalidation.gaps")
+                .description("Times this instance may have missed invalidations and reloaded everything")
+                .register(meterRegistry);
+    }
+
+    // English: BEFORE_COMMIT so the NOTIFY joins the write transaction (delivered by PostgreSQL on commit)
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        if (!event.remote()) {
+            send(JOB_OFFER, event.id().toString());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!event.remote()) {
+            event.emails().forEach(email -> send(USER, email));
+        }
+    }
+
+    private void send(String type, String key) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", ResultSet::next, channel, nodeId + SEPARATOR + type + SEPARATOR + key);
+    }
+
+    /**
+     * Replays one notification locally. Package-private for tests.
+     */
+    void handle(String payload) {
+        String[] parts = payload.split(SEPARATOR, 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed cache invalidation | Payload: {}", payload);
+            return;
+        }
+        if (parts[0].equals(nodeId)) {
+            return;
+        }
+        received.increment();
+        switch (parts[1]) {
+            case JOB_OFFER -> {
+                Long id = Long.valueOf(parts[2]);
+                // English: The other node's commit may not have reached the read replicas yet
+                eventPublisher.publishEvent(JobOfferChangedEvent.remote(id,
+                        ReplicaRoutingDataSource.onPrimary(() -> repository.findCommittedById(id))
+                                .map(mapper::toResponseDto).orElse(null)));
+            }
+            case USER -> eventPublisher.publishEvent(UserChangedEvent.remote(parts[2]));
+            default -> log.warn("Ignoring unknown cache invalidation | Payload: {}", payload);
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+        try {
+            // English: Listening before the web server and the startup loads start means nothing can be missed
+            startedLate = !firstListen.await(reconnectDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            startedLate = true;
+        }
+        if (startedLate) {
+            log.warn("Cache invalidation listener not connected yet, will reload caches once it is");
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // English: Before the embedded web server (DEFAULT_PHASE - 1024) starts taking requests
+        return DEFAULT_PHASE - 2048;
+    }
+
+    private void listen() {
+        boolean reconnected = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                    if (!connection.getAutoCommit()) {
+                        connection.commit();
+                    }
+                    PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                    firstListen.countDown();
+                    log.info("Listening for cache invalidations | Channel: {} | Node: {}", channel, nodeId);
+
+                    if (reconnected || startedLate) {
+                        gaps.increment();
+                        eventPublisher.publishEvent(new InvalidationGapEvent(
+                                reconnected ? "invalidation listener reconnected" : "invalidation listener started late"));
+                    }
+                    reconnected = true;
+
+                    while (running) {
+                        PGNotification[] notifications = pgConnection.getNotifications((int) pollInterval.toMillis());
+                        if (notifications == null || notifications.length == 0) {
+                            // English: A silently dropped TCP connection never throws here, so probe it while idle
+                            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                                throw new SQLException("Invalidation listener connection is no longer valid");
+                            }
+                            continue;
+                        }
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                } finally {
+                    unlisten(connection);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                // English: Also covers a failed replay (the change was not applied, so reload on reconnect)
+                log.warn("Cache invalidation listener failed, reconnecting in {} | Error: {}", reconnectDelay, ex.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops listening before the connection goes back to the pool, where it would otherwise keep
+     * buffering notifications for whoever borrows it next.
+     */
+    private void unlisten(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UNLISTEN *");
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (SQLException ex) {
+            // English: A broken connection fails here too; the pool evicts it instead of handing it out again
+            log.debug("Could not unlisten invalidation listener connection | Error: {}", ex.getMessage());
+        }
+    }
+}
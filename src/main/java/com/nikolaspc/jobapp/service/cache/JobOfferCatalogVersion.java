@@ -0,0 +1,59 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.nikolaspc.jobapp.dto.ResourceVersion;
+import com.nikolaspc.jobapp.service.event.InvalidationGapEvent;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Catalogue Version
+ * Counter bumped after every committed job offer write (local or on another instance) and after
+ * every invalidation gap, used as the validator of job offer lists.
+ * <p>
+ * The ETag is "{epoch}-{counter}": the epoch identifies this process, so ETags handed out before a
+ * restart (or by another instance) never match by accident. Last-Modified starts at startup time,
+ * which is conservative: offers deleted before the restart cannot make older copies look current.
+ */
+@Component
+public class JobOfferCatalogVersion {
+
+    private final Clock clock;
+    private final String epoch;
+    private final AtomicReference<Snapshot> current;
+
+    public JobOfferCatalogVersion() {
+        this(Clock.systemUTC());
+    }
+
+    JobOfferCatalogVersion(Clock clock) {
+        this.clock = clock;
+        this.epoch = Long.toString(clock.millis(), 36);
+        this.current = new AtomicReference<>(new Snapshot(0, clock.instant()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        bump();
+    }
+
+    @EventListener(InvalidationGapEvent.class)
+    public void bump() {
+        Instant now = clock.instant();
+        current.updateAndGet(previous -> new Snapshot(previous.counter() + 1,
+                now.isAfter(previous.lastModified()) ? now : previous.lastModified()));
+    }
+
+    public ResourceVersion current() {
+        Snapshot snapshot = current.get();
+        return new ResourceVersion(epoch + "-" + snapshot.counter(), snapshot.lastModified());
+    }
+
+    private record Snapshot(long counter, Instant lastModified) {}
+}
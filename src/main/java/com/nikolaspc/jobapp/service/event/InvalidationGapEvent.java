@@ -0,0 +1,8 @@
+package com.nikolaspc.jobapp.service.event;
+
+/**
+ * Published when this instance may have missed job offer or user changes committed by another
+ * instance (e.g. after its invalidation listener reconnected). Every in-process copy of that data
+ * must be dropped or reloaded from the database.
+ */
+public record InvalidationGapEvent(String reason) {}
@@ -0,0 +1,30 @@
+package com.nikolaspc.jobapp.service.event;
+
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+
+/**
+ * Published by JobOfferServiceImpl for every write on a job offer.
+ * Carries the committed state of the offer (null when it was deleted), so listeners running
+ * after commit never need to go back to the database.
+ * <p>
+ * Remote events are replayed by ClusterInvalidationBus for writes committed on another instance;
+ * they update local state only and are never sent back to the cluster.
+ */
+public record JobOfferChangedEvent(Long id, JobOfferResponseDTO offer, boolean remote) {
+
+    public static JobOfferChangedEvent saved(JobOfferResponseDTO offer) {
+        return new JobOfferChangedEvent(offer.id(), offer, false);
+    }
+
+    public static JobOfferChangedEvent deleted(Long id) {
+        return new JobOfferChangedEvent(id, null, false);
+    }
+
+    public static JobOfferChangedEvent remote(Long id, JobOfferResponseDTO offer) {
+        return new JobOfferChangedEvent(id, offer, true);
+    }
+
+    public boolean isDeleted() {
+        return offer == null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.nikolaspc.jobapp.service.event;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Published when a user is created, their identity data changes or they are deleted.
+ * Lists every email the user was reachable under before and after the change.
+ * Remote events come from another instance (see JobOfferChangedEvent).
+ */
+public record UserChangedEvent(Set<String> emails, boolean remote) {
+
+    public static UserChangedEvent of(String... emails) {
+        return new UserChangedEvent(Set.copyOf(Arrays.asList(emails)), false);
+    }
+
+    public static UserChangedEvent remote(String email) {
+        return new UserChangedEvent(Set.of(email), true);
+    }
+}
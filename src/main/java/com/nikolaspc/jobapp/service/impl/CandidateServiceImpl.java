@@ -3,20 +3,24 @@ package com.nikolaspc.jobapp.service.impl;
 import com.nikolaspc.jobapp.domain.Candidate;
 import com.nikolaspc.jobapp.domain.User;
 import com.nikolaspc.jobapp.dto.CandidateDTO;
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
 import com.nikolaspc.jobapp.exception.BadRequestException;
 import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
 import com.nikolaspc.jobapp.mapper.CandidateMapper;
 import com.nikolaspc.jobapp.repository.CandidateRepository;
 import com.nikolaspc.jobapp.repository.UserRepository;
 import com.nikolaspc.jobapp.service.CandidateService;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -26,16 +30,26 @@ public class CandidateServiceImpl implements CandidateService {
     private final CandidateRepository repository;
     private final UserRepository userRepository;
     private final CandidateMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MIN_AGE = 18;
 
     @Override
     @Transactional(readOnly = true)
-    public List<CandidateDTO> findAll() {
-        log.info("Fetching all candidates with their user data");
-        return repository.findAll().stream()
-                .map(mapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<CandidateDTO> findPage(String cursor, Integer size) {
+        log.info("Fetching candidates page with their user data");
+        int pageSize = CursorPage.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        // English: One extra row tells us whether a next page exists without a COUNT(*)
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<CandidateDTO> rows = after == null
+                ? repository.findPage(limit)
+                : repository.findPageAfter(after.timestamp(), after.id(), limit);
+
+        return CursorPage.of(rows, pageSize,
+                candidate -> new KeysetCursor(candidate.getCreatedAt(), candidate.getId()),
+                candidate -> candidate);
     }
 
     @Override
@@ -69,6 +83,7 @@ public class CandidateServiceImpl implements CandidateService {
 
         // 2. Update User master fields (Normalizing the update)
         User user = candidate.getUser();
+        String previousEmail = user.getEmail();
         user.setFirstName(dto.getFirstName());
         user.setLastName(dto.getLastName());
 
@@ -81,6 +96,7 @@ public class CandidateServiceImpl implements CandidateService {
         }
 
         Candidate updatedCandidate = repository.save(candidate);
+        eventPublisher.publishEvent(UserChangedEvent.of(previousEmail, user.getEmail()));
         return mapper.toDto(updatedCandidate);
     }
 
@@ -88,11 +104,13 @@ public class CandidateServiceImpl implements CandidateService {
     @Transactional
     public void delete(Long id) {
         log.info("Deleting candidate and identity for ID: {}", id);
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User", id);
-        }
-        // English: Deleting the User will automatically delete the Candidate due to ON DELETE CASCADE
+        String email = userRepository.findEmailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", id));
+        // English: ON DELETE CASCADE would remove the candidate row too, but Hibernate would not know and
+        // keep serving it from the second-level cache, so the profile is removed through JPA first
+        repository.deleteById(id);
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(UserChangedEvent.of(email));
     }
 
     private void validateAge(LocalDate dateOfBirth) {
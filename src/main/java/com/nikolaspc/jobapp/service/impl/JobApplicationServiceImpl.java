@@ -1,24 +1,45 @@
 package com.nikolaspc.jobapp.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
 import com.nikolaspc.jobapp.domain.Candidate;
 import com.nikolaspc.jobapp.domain.JobApplication;
 import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateResult;
+import com.nikolaspc.jobapp.dto.CursorPage;
 import com.nikolaspc.jobapp.dto.JobApplicationDTO;
+import com.nikolaspc.jobapp.dto.JobApplicationExportRow;
+import com.nikolaspc.jobapp.dto.JobApplicationFilter;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
 import com.nikolaspc.jobapp.exception.BadRequestException;
 import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
 import com.nikolaspc.jobapp.mapper.JobApplicationMapper;
 import com.nikolaspc.jobapp.repository.CandidateRepository;
 import com.nikolaspc.jobapp.repository.JobApplicationRepository;
+import com.nikolaspc.jobapp.repository.JobApplicationSpecifications;
 import com.nikolaspc.jobapp.repository.JobOfferRepository;
 import com.nikolaspc.jobapp.service.JobApplicationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -29,16 +50,69 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     private final CandidateRepository candidateRepository;
     private final JobOfferRepository jobOfferRepository;
     private final JobApplicationMapper mapper;
+    private final ObjectMapper objectMapper;
 
-    private static final String DEFAULT_STATUS = "PENDING";
+    // English: Rows locked by a single UPDATE; each chunk commits on its own
+    @Value("${app.applications.bulk-update.chunk-size:500}")
+    private int bulkChunkSize = 500;
+
+    @Value("${app.applications.bulk-update.max-ids:5000}")
+    private int bulkMaxIds = 5000;
 
     @Override
     @Transactional(readOnly = true)
-    public List<JobApplicationDTO> findAll() {
-        log.info("Fetching all job applications");
-        return applicationRepository.findAll().stream()
-                .map(mapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<JobApplicationDTO> findPage(JobApplicationFilter filter, String cursor, Integer size) {
+        log.info("Fetching job applications page - Filter: {}", filter);
+        int pageSize = CursorPage.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        Specification<JobApplication> spec = JobApplicationSpecifications.matching(filter);
+        if (after != null) {
+            spec = spec.and(JobApplicationSpecifications.after(after));
+        }
+
+        // English: One extra row tells us whether a next page exists without a COUNT(*)
+        List<JobApplication> rows = applicationRepository.findBy(spec, query -> query
+                .sortBy(JobApplicationSpecifications.KEYSET_SORT)
+                .limit(pageSize + 1)
+                .all());
+
+        return CursorPage.of(rows, pageSize,
+                application -> new KeysetCursor(application.getAppliedAt(), application.getId()),
+                mapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportNdjson(JobApplicationFilter filter, OutputStream out) {
+        log.info("Exporting job applications - Filter: {}", filter);
+        long count = 0;
+        // English: One JSON document per line, written as rows arrive from the database cursor
+        try (Stream<JobApplicationExportRow> rows = applicationRepository.streamForExport(
+                     JobApplicationSpecifications.matching(filter));
+             SequenceWriter writer = objectMapper.writer()
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     // English: Otherwise every row is its own servlet flush, i.e. one network write per row;
+                     // full buffers still go out as they fill, the stream itself is flushed once below
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            for (JobApplicationExportRow row : (Iterable<JobApplicationExportRow>) rows::iterator) {
+                writer.write(row);
+                count++;
+            }
+            // English: Hands over what the generator still buffers before the final newline
+            writer.flush();
+            if (count > 0) {
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Job application export failed after " + count + " rows", e);
+        }
+        log.info("Exported {} job applications", count);
+        return count;
     }
 
     @Override
@@ -75,11 +149,11 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         application.setCandidate(candidate);
         application.setJobOffer(jobOffer);
 
-        if (dto.getStatus() == null) {
-            application.setStatus(DEFAULT_STATUS);
-        } else {
-            application.setStatus(dto.getStatus());
+        // English: Every application enters the lifecycle as PENDING; later states only via updateStatus
+        if (application.getStatus() != null && application.getStatus() != ApplicationStatus.PENDING) {
+            throw new BadRequestException("New applications must start as " + ApplicationStatus.PENDING);
         }
+        application.setStatus(ApplicationStatus.PENDING);
 
         try {
             JobApplication saved = applicationRepository.save(application);
@@ -92,12 +166,98 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 
     @Override
     @Transactional
-    public JobApplicationDTO updateStatus(Long id, String newStatus) {
+    public JobApplicationDTO updateStatus(Long id, ApplicationStatus newStatus) {
         log.info("Updating application {} status to: {}", id, newStatus);
-        JobApplication application = applicationRepository.findById(id)
+        JobApplication application = applicationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job Application", id));
 
+        requireTransition(application.getStatus(), newStatus);
         application.setStatus(newStatus);
         return mapper.toDto(applicationRepository.save(application));
     }
-}
\ No newline at end of file
+
+    /**
+     * English: Deliberately not @Transactional. Every chunk is one UPDATE ... RETURNING that commits
+     * by itself, so row locks are held for one chunk only. A failure part-way keeps the chunks already
+     * committed; repeating the request is safe because rows already moved no longer match a source status.
+     */
+    @Override
+    public BulkStatusUpdateResult updateStatuses(BulkStatusUpdateRequest request) {
+        ApplicationStatus targetStatus = request.targetStatus();
+        boolean byIds = request.ids() != null && !request.ids().isEmpty();
+        boolean byJobOffer = request.jobOfferId() != null || request.currentStatus() != null;
+        if (byIds == byJobOffer) {
+            throw new BadRequestException("Provide either ids or jobOfferId and currentStatus");
+        }
+
+        if (byIds) {
+            return updateStatusesByIds(request.ids(), targetStatus);
+        }
+        if (request.jobOfferId() == null || request.currentStatus() == null) {
+            throw new BadRequestException("Both jobOfferId and currentStatus are required");
+        }
+        requireTransition(request.currentStatus(), targetStatus);
+        return updateStatusesByJobOffer(request.jobOfferId(), request.currentStatus(), targetStatus);
+    }
+
+    private BulkStatusUpdateResult updateStatusesByIds(List<Long> requestedIds, ApplicationStatus targetStatus) {
+        // English: Sorted, so concurrent bulk updates lock overlapping rows in the same order
+        List<Long> ids = requestedIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        if (ids.size() > bulkMaxIds) {
+            throw new BadRequestException("At most " + bulkMaxIds + " applications can be updated at once");
+        }
+        Set<ApplicationStatus> sources = ApplicationStatus.sourcesOf(targetStatus);
+        if (sources.isEmpty()) {
+            throw new BadRequestException("No application can move to " + targetStatus);
+        }
+        log.info("Bulk updating {} applications to status: {}", ids.size(), targetStatus);
+
+        Set<Long> updated = new HashSet<>();
+        Set<Long> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+            List<Long> chunkUpdated = applicationRepository.updateStatusByIds(chunk, sources, targetStatus);
+            updated.addAll(chunkUpdated);
+            if (chunkUpdated.size() < chunk.size()) {
+                // English: Only when something was skipped: tells "not found" apart from "invalid transition"
+                existing.addAll(applicationRepository.findExistingIds(
+                        chunk.stream().filter(id -> !updated.contains(id)).toList()));
+            }
+        }
+
+        List<BulkStatusUpdateResult.Item> results = ids.stream()
+                .map(id -> new BulkStatusUpdateResult.Item(id, updated.contains(id)
+                        ? BulkStatusUpdateResult.Outcome.UPDATED
+                        : existing.contains(id)
+                        ? BulkStatusUpdateResult.Outcome.INVALID_TRANSITION
+                        : BulkStatusUpdateResult.Outcome.NOT_FOUND))
+                .toList();
+        return new BulkStatusUpdateResult(targetStatus, updated.size(), results, false);
+    }
+
+    private BulkStatusUpdateResult updateStatusesByJobOffer(Long jobOfferId, ApplicationStatus currentStatus,
+                                                            ApplicationStatus targetStatus) {
+        log.info("Bulk updating applications of offer {} from {} to {}", jobOfferId, currentStatus, targetStatus);
+        List<BulkStatusUpdateResult.Item> results = new ArrayList<>();
+        List<Long> chunk;
+        do {
+            // English: Updated rows no longer match currentStatus, so each round picks up the next ones. A short
+            // chunk does not mean the end: rows moved concurrently are skipped, the ones after them are not
+            int limit = Math.min(bulkChunkSize, bulkMaxIds - results.size());
+            chunk = applicationRepository.updateStatusByJobOffer(jobOfferId, currentStatus, targetStatus, limit);
+            chunk.forEach(id -> results.add(new BulkStatusUpdateResult.Item(id, BulkStatusUpdateResult.Outcome.UPDATED)));
+        } while (!chunk.isEmpty() && results.size() < bulkMaxIds);
+
+        // English: Same bound as a selection by ids, so one request never holds or returns more than that
+        boolean limitReached = results.size() >= bulkMaxIds;
+        log.info("Bulk updated {} applications of offer {} | Limit reached: {}", results.size(), jobOfferId, limitReached);
+        return new BulkStatusUpdateResult(targetStatus, results.size(), results, limitReached);
+    }
+
+    private static void requireTransition(ApplicationStatus current, ApplicationStatus target) {
+        if (!current.canTransitionTo(target)) {
+            throw new BadRequestException("Application status cannot change from " + current + " to " + target
+                    + ". Allowed: " + current.allowedTransitions());
+        }
+    }
+}
@@ -1,14 +1,33 @@
 package com.nikolaspc.jobapp.service.impl;
 
+import com.nikolaspc.jobapp.datasource.ReplicaRoutingDataSource;
 import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
+import com.nikolaspc.jobapp.dto.PreparedJson;
+import com.nikolaspc.jobapp.dto.RankCursor;
+import com.nikolaspc.jobapp.dto.ResourceVersion;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetsDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferRequestDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferSearchRow;
+import com.nikolaspc.jobapp.exception.BadRequestException;
 import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
 import com.nikolaspc.jobapp.mapper.JobOfferMapper;
 import com.nikolaspc.jobapp.repository.JobOfferRepository;
 import com.nikolaspc.jobapp.service.JobOfferService;
+import com.nikolaspc.jobapp.service.cache.ActiveJobOffersSnapshot;
+import com.nikolaspc.jobapp.service.cache.CacheNames;
+import com.nikolaspc.jobapp.service.cache.JobOfferCatalogVersion;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import com.nikolaspc.jobapp.service.search.JobOfferFacetCounts;
+import com.nikolaspc.jobapp.service.search.JobOfferSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -20,35 +39,104 @@ public class JobOfferServiceImpl implements JobOfferService {
 
     private final JobOfferRepository repository;
     private final JobOfferMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobOfferFacetCounts facetCounts;
+    private final JobOfferSearchIndex searchIndex;
+    private final JobOfferCatalogVersion catalogVersion;
+    private final ActiveJobOffersSnapshot activeOffersSnapshot;
 
     @Override
-    public List<JobOfferResponseDTO> findAll() {
-        return repository.findAll().stream()
-                .map(mapper::toResponseDto)
-                .toList(); // .toList() es Java 16+, más limpio que Collectors.toList()
+    public CursorPage<JobOfferResponseDTO> findPage(String cursor, Integer size, boolean activeOnly) {
+        int pageSize = CursorPage.clampSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        // English: One extra row tells us whether a next page exists without a COUNT(*)
+        Limit limit = Limit.of(pageSize + 1);
+
+        // English: Sent under the catalogue ETag, which is bumped right after commit; a lagging replica
+        // could pair the new ETag with a page that misses the write (and 304s would keep it that way)
+        List<JobOffer> rows = ReplicaRoutingDataSource.onPrimary(() -> {
+            if (after == null) {
+                return activeOnly
+                        ? repository.findByActiveTrueOrderByCreatedAtDescIdDesc(limit)
+                        : repository.findAllByOrderByCreatedAtDescIdDesc(limit);
+            }
+            return activeOnly
+                    ? repository.findActiveAfter(after.timestamp(), after.id(), limit)
+                    : repository.findAllAfter(after.timestamp(), after.id(), limit);
+        });
+
+        return CursorPage.of(rows, pageSize,
+                offer -> new KeysetCursor(offer.getCreatedAt(), offer.getId()),
+                mapper::toResponseDto);
     }
 
     @Override
-    public List<JobOfferResponseDTO> findActiveOffers() {
-        return repository.findByActiveTrue().stream()
-                .map(mapper::toResponseDto)
-                .toList();
+    @Transactional(propagation = Propagation.SUPPORTS) // English: Plain term queries never need a connection
+    public CursorPage<JobOfferResponseDTO> search(String query, String cursor, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        int pageSize = CursorPage.clampSize(size);
+        RankCursor after = RankCursor.decode(cursor);
+
+        // English: A query keeps its path from page to page, so a cursor is always read by the path that made it
+        if (searchIndex.canServe(query)) {
+            List<JobOfferSearchIndex.Hit> hits = searchIndex.searchRanked(query).stream()
+                    .filter(hit -> after == null || hit.isAfter(after.rank(), after.id()))
+                    .limit(pageSize + 1L)
+                    .toList();
+            return CursorPage.of(hits, pageSize,
+                    hit -> new RankCursor(hit.rank(), hit.offer().id()),
+                    JobOfferSearchIndex.Hit::offer);
+        }
+
+        List<JobOfferSearchRow> rows = after == null
+                ? repository.search(query, pageSize + 1)
+                : repository.searchAfter(query, after.rank(), after.id(), pageSize + 1);
+
+        return CursorPage.of(rows, pageSize,
+                row -> new RankCursor(row.getRank(), row.getId()),
+                mapper::toResponseDto);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS) // English: Served from memory, no connection needed
+    public JobOfferFacetsDTO facets(String query) {
+        return facetCounts.facets(query);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS) // English: Rebuilds (rare) run their own query
+    public PreparedJson findActiveOffersJson() {
+        return activeOffersSnapshot.get();
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.JOB_OFFERS, key = "#id")
     public JobOfferResponseDTO findById(Long id) {
-        return repository.findById(id)
+        // English: Only cache misses get here. The primary, so an offer just created is never a 404 and the
+        // cached body (and its ETag) is never older than the write that evicted it
+        return ReplicaRoutingDataSource.onPrimary(() -> repository.findById(id))
                 .map(mapper::toResponseDto)
                 .orElseThrow(() -> new ResourceNotFoundException("Job Offer", id));
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ResourceVersion catalogVersion() {
+        return catalogVersion.current();
+    }
+
     @Override
     @Transactional // Sobrescribe el readOnly=true de la clase
     public JobOfferResponseDTO create(JobOfferRequestDTO dto) {
         // El mapper ya setea active=true gracias a la config 'constant'
         JobOffer jobOffer = mapper.toEntity(dto);
         JobOffer savedOffer = repository.save(jobOffer);
-        return mapper.toResponseDto(savedOffer);
+        JobOfferResponseDTO response = mapper.toResponseDto(savedOffer);
+        // English: Listeners (search index, caches) only react once the transaction has committed
+        eventPublisher.publishEvent(JobOfferChangedEvent.saved(response));
+        return response;
     }
 
     @Override
@@ -58,8 +146,11 @@ public class JobOfferServiceImpl implements JobOfferService {
                 .orElseThrow(() -> new ResourceNotFoundException("Job Offer", id));
 
         mapper.updateEntityFromDto(dto, jobOffer);
-        JobOffer updatedOffer = repository.save(jobOffer);
-        return mapper.toResponseDto(updatedOffer);
+        // English: @PreUpdate sets updatedAt only at flush; the response and the event must already carry it
+        JobOffer updatedOffer = repository.saveAndFlush(jobOffer);
+        JobOfferResponseDTO response = mapper.toResponseDto(updatedOffer);
+        eventPublisher.publishEvent(JobOfferChangedEvent.saved(response));
+        return response;
     }
 
     @Override
@@ -69,5 +160,6 @@ public class JobOfferServiceImpl implements JobOfferService {
             throw new ResourceNotFoundException("Job Offer", id);
         }
         repository.deleteById(id);
+        eventPublisher.publishEvent(JobOfferChangedEvent.deleted(id));
     }
 }
\ No newline at end of file
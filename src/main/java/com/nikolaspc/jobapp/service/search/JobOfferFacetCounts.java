@@ -0,0 +1,176 @@
+package com.nikolaspc.jobapp.service.search;
+
+import com.nikolaspc.jobapp.datasource.ReplicaRoutingDataSource;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetCount;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetRow;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetsDTO;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.InvalidationGapEvent;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Facet Counts
+ * Number of active job offers per location and per employment type, kept in memory so that
+ * facet requests never scan job_offers.
+ * <p>
+ * Loaded once the application is ready, updated by {@link JobOfferChangedEvent}s after each commit
+ * (local or on another instance) and periodically compared with a GROUP BY on PostgreSQL. Any drift
+ * (e.g. rows changed by hand) triggers a reload and increments "search.facets.drift". An
+ * {@link InvalidationGapEvent} reloads the counts without waiting for the next reconciliation.
+ * <p>
+ * English: Reloads build a complete new set of maps and publish it with one volatile write (as
+ * JobOfferSearchIndex.rebuild does), so readers never see the counts empty or half loaded.
+ */
+@Slf4j
+@Component
+public class JobOfferFacetCounts {
+
+    private final JobOfferRepository repository;
+    private final JobOfferSearchIndex searchIndex;
+    private final Counter drifts;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // English: Replaced as a whole on reload, mutated in place on offer writes
+    private volatile Counts counts = new Counts();
+
+    public JobOfferFacetCounts(JobOfferRepository repository, JobOfferSearchIndex searchIndex, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.drifts = Counter.builder("search.facets.drift")
+                .description("Reconciliations that found the in-memory facet counts out of date")
+                .register(meterRegistry);
+    }
+
+    @EventListener({ApplicationReadyEvent.class, InvalidationGapEvent.class})
+    public void reload() {
+        writeLock.lock();
+        try {
+            Counts fresh = new Counts();
+            for (JobOfferFacetRow row : ReplicaRoutingDataSource.onPrimary(repository::findActiveFacetRows)) {
+                fresh.add(row.getId(), new OfferFacets(row.getLocation(), row.getEmploymentType()));
+            }
+            counts = fresh;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        JobOfferResponseDTO offer = event.offer();
+        writeLock.lock();
+        try {
+            Counts current = counts;
+            current.remove(event.id());
+            if (!event.isDeleted() && offer.active()) {
+                current.add(offer.id(), new OfferFacets(offer.location(), offer.employmentType()));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.facets.reconcile-interval:10m}",
+            initialDelayString = "${app.search.facets.reconcile-interval:10m}")
+    public void reconcile() {
+        writeLock.lock();
+        try {
+            Map<String, Long> expectedLocations = new HashMap<>();
+            Map<String, Long> expectedEmploymentTypes = new HashMap<>();
+            for (JobOfferFacetCount count : ReplicaRoutingDataSource.onPrimary(repository::countActiveByFacets)) {
+                expectedLocations.merge(count.getLocation(), count.getTotal(), Long::sum);
+                expectedEmploymentTypes.merge(count.getEmploymentType(), count.getTotal(), Long::sum);
+            }
+
+            Counts current = counts;
+            if (!expectedLocations.equals(current.locationCounts)
+                    || !expectedEmploymentTypes.equals(current.employmentTypeCounts)) {
+                drifts.increment();
+                log.warn("Facet counts drifted from the database, reloading | Offers in memory: {}",
+                        current.facetsByOffer.size());
+                reload();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Counts for all active offers, or only for those matching every term of {@code query}.
+     */
+    public JobOfferFacetsDTO facets(String query) {
+        Counts current = counts;
+        if (query == null || query.isBlank()) {
+            return new JobOfferFacetsDTO(current.facetsByOffer.size(),
+                    sorted(current.locationCounts), sorted(current.employmentTypeCounts));
+        }
+
+        Map<String, Long> locations = new HashMap<>();
+        Map<String, Long> employmentTypes = new HashMap<>();
+        long total = 0;
+        for (int id : searchIndex.search(query)) {
+            OfferFacets facets = current.facetsByOffer.get((long) id);
+            if (facets != null) {
+                total++;
+                locations.merge(facets.location(), 1L, Long::sum);
+                employmentTypes.merge(facets.employmentType(), 1L, Long::sum);
+            }
+        }
+        return new JobOfferFacetsDTO(total, sorted(locations), sorted(employmentTypes));
+    }
+
+    private static Map<String, Long> sorted(Map<String, Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private record OfferFacets(String location, String employmentType) {}
+
+    /**
+     * One consistent set of counts; only mutated under the write lock.
+     */
+    private static final class Counts {
+
+        // English: Per-offer values are needed to decrement the right counters when an offer changes
+        private final ConcurrentHashMap<Long, OfferFacets> facetsByOffer = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Long> locationCounts = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Long> employmentTypeCounts = new ConcurrentHashMap<>();
+
+        private void add(Long id, OfferFacets facets) {
+            facetsByOffer.put(id, facets);
+            locationCounts.merge(facets.location(), 1L, Long::sum);
+            employmentTypeCounts.merge(facets.employmentType(), 1L, Long::sum);
+        }
+
+        private void remove(Long id) {
+            OfferFacets previous = facetsByOffer.remove(id);
+            if (previous != null) {
+                decrement(locationCounts, previous.location());
+                decrement(employmentTypeCounts, previous.employmentType());
+            }
+        }
+
+        private static void decrement(ConcurrentHashMap<String, Long> counts, String value) {
+            counts.computeIfPresent(value, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+}
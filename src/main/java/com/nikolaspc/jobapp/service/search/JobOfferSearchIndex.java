@@ -0,0 +1,409 @@
+package com.nikolaspc.jobapp.service.search;
+
+import com.nikolaspc.jobapp.datasource.ReplicaRoutingDataSource;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.mapper.JobOfferMapper;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.InvalidationGapEvent;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * In-Memory Search Index
+ * Inverted index over the title, description and location terms of every active job offer,
+ * so the job board can match queries without a round trip to PostgreSQL. It keeps the response
+ * of every indexed offer, so plain term searches are answered from memory entirely; phrase, OR and
+ * exclusion queries ({@link #canServe}) are left to PostgreSQL's full-text search.
+ * <p>
+ * Posting lists are sorted {@code int[]} of offer ids, sized exactly and replaced copy-on-write
+ * on single offer writes; a rebuild fills a fresh instance and sorts every list just once.
+ * Readers never lock: each list they see is complete and immutable. Writers are serialized by a
+ * lock that readers never touch. A reader may see an offer that is only half re-indexed for a
+ * few microseconds.
+ * <p>
+ * Built from {@link JobOfferRepository#findByActiveTrue()} once the application is ready, then
+ * kept current by {@link JobOfferChangedEvent}s after each commit (local or on another instance).
+ * Rebuilt from scratch when an {@link InvalidationGapEvent} says changes may have been missed.
+ */
+@Slf4j
+@Component
+public class JobOfferSearchIndex {
+
+    private static final String METRIC_PREFIX = "search.index.";
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final int[] NO_DOCS = new int[0];
+    // English: websearch_to_tsquery syntax the index does not understand: "phrases", OR and -exclusions
+    private static final Pattern QUERY_OPERATORS = Pattern.compile("\"|(^|\\s)-|(^|\\s)or(\\s|$)", Pattern.CASE_INSENSITIVE);
+
+    // English: ts_rank_cd's default weights for the A (title), B (location) and C (description) labels of V6
+    private static final float TITLE_WEIGHT = 1.0f;
+    private static final float LOCATION_WEIGHT = 0.4f;
+    private static final float DESCRIPTION_WEIGHT = 0.2f;
+
+    // English: Rough HotSpot sizes with compressed oops, used for the footprint report only
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int MAP_ENTRY = 32;
+
+    private final JobOfferRepository repository;
+    private final JobOfferMapper mapper;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // English: Replaced as a whole on rebuild, mutated in place (copy-on-write lists) on offer writes
+    private volatile Segments segments = new Segments();
+    private volatile boolean built;
+
+    public JobOfferSearchIndex(JobOfferRepository repository, JobOfferMapper mapper, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.mapper = mapper;
+        Gauge.builder(METRIC_PREFIX + "documents", this, JobOfferSearchIndex::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "terms", this, JobOfferSearchIndex::termCount).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "heap", this, JobOfferSearchIndex::estimatedHeapBytes)
+                .description("Estimated heap retained by the job offer search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener({ApplicationReadyEvent.class, InvalidationGapEvent.class})
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            Segments fresh = new Segments();
+            fresh.load(ReplicaRoutingDataSource.onPrimary(repository::findByActiveTrue).stream()
+                    .map(mapper::toResponseDto)
+                    .toList());
+            segments = fresh;
+            built = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Job offer search index built | Documents: {} | Terms: {} | Heap: ~{} KB",
+                size(), termCount(), estimatedHeapBytes() / 1024);
+    }
+
+    // English: fallbackExecution keeps the index current for writes made outside a transaction
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        JobOfferResponseDTO offer = event.offer();
+        if (event.isDeleted() || !offer.active()) {
+            remove(event.id());
+        } else {
+            index(offer);
+        }
+    }
+
+    /**
+     * Adds the offer, or replaces the terms and response it was indexed with before.
+     */
+    public void index(JobOfferResponseDTO offer) {
+        String[] terms = termsOf(offer);
+        writeLock.lock();
+        try {
+            segments.put(docId(offer.id()), offer, terms);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        writeLock.lock();
+        try {
+            segments.remove(docId(id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Ids of the active offers containing every term of the query, in ascending order.
+     */
+    public int[] search(String query) {
+        return search(segments, tokenize(query));
+    }
+
+    private static int[] search(Segments current, String[] terms) {
+        if (terms.length == 0) {
+            return NO_DOCS;
+        }
+
+        int[][] lists = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            Posting posting = current.postings.get(terms[i]);
+            if (posting == null) {
+                return NO_DOCS;
+            }
+            lists[i] = posting.docs;
+        }
+
+        // English: Intersect the rarest terms first so the candidate set shrinks as fast as possible
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        // English: Posting lists are shared with other readers and must never leak out mutable
+        return result == lists[0] ? result.clone() : result;
+    }
+
+    /**
+     * Whether {@link #searchRanked} can answer the query: the index has been built and the query
+     * consists of plain terms only.
+     */
+    public boolean canServe(String query) {
+        return built && !QUERY_OPERATORS.matcher(query).find();
+    }
+
+    /**
+     * Active offers containing every term of the query, best matches first (rank desc, id desc). A term
+     * ranks by the most important field it occurs in, with the weights PostgreSQL's search uses.
+     */
+    public List<Hit> searchRanked(String query) {
+        Segments current = segments;
+        String[] terms = tokenize(query);
+        List<Hit> hits = new ArrayList<>();
+        for (int doc : search(current, terms)) {
+            // English: Null if the offer was removed after its posting was read
+            JobOfferResponseDTO offer = current.offers.get(doc);
+            if (offer != null) {
+                hits.add(new Hit(offer, rank(offer, terms)));
+            }
+        }
+        hits.sort(Hit.ORDER);
+        return hits;
+    }
+
+    public int size() {
+        return segments.termsByDoc.size();
+    }
+
+    public int termCount() {
+        return segments.postings.size();
+    }
+
+    /**
+     * Approximate retained heap of postings, dictionary and per-offer term lists.
+     */
+    public long estimatedHeapBytes() {
+        Segments current = segments;
+        long bytes = 0;
+        for (Posting posting : current.postings.values()) {
+            bytes += MAP_ENTRY
+                    + OBJECT_HEADER + REFERENCE + 4 + ARRAY_HEADER + posting.term.length() // English: Latin-1 String
+                    + OBJECT_HEADER + 2L * REFERENCE
+                    + ARRAY_HEADER + 4L * posting.docs.length;
+        }
+        for (Posting[] docTerms : current.termsByDoc.values()) {
+            bytes += MAP_ENTRY + OBJECT_HEADER + 4 + ARRAY_HEADER + (long) REFERENCE * docTerms.length;
+        }
+        for (JobOfferResponseDTO offer : current.offers.values()) {
+            // English: Text fields only; the record, dates and shared enum-like strings are comparatively small
+            bytes += MAP_ENTRY + OBJECT_HEADER + 8L * REFERENCE
+                    + length(offer.title()) + length(offer.description()) + length(offer.location());
+        }
+        return bytes;
+    }
+
+    static String[] tokenize(String... fields) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (String token : TOKEN_SEPARATOR.split(field.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty() && token.length() <= MAX_TERM_LENGTH) {
+                    terms.add(token);
+                }
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private static String[] termsOf(JobOfferResponseDTO offer) {
+        return tokenize(offer.title(), offer.description(), offer.location());
+    }
+
+    private static float rank(JobOfferResponseDTO offer, String[] terms) {
+        Set<String> title = Set.of(tokenize(offer.title()));
+        Set<String> location = Set.of(tokenize(offer.location()));
+        float rank = 0;
+        for (String term : terms) {
+            // English: Every term matched somewhere, so one in neither title nor location is in the description
+            rank += title.contains(term) ? TITLE_WEIGHT : location.contains(term) ? LOCATION_WEIGHT : DESCRIPTION_WEIGHT;
+        }
+        return rank;
+    }
+
+    private static long length(String text) {
+        return text == null ? 0 : OBJECT_HEADER + REFERENCE + 4 + ARRAY_HEADER + text.length();
+    }
+
+    // English: Offer ids come from a sequence and fit in an int, which halves the size of every posting
+    private static int docId(Long id) {
+        return Math.toIntExact(id);
+    }
+
+    private static int[] intersect(int[] smaller, int[] larger) {
+        int[] out = new int[smaller.length];
+        int count = 0;
+        int from = 0;
+        for (int doc : smaller) {
+            int found = Arrays.binarySearch(larger, from, larger.length, doc);
+            if (found >= 0) {
+                out[count++] = doc;
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+            if (from == larger.length) {
+                break;
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    /**
+     * One matching offer and its relevance.
+     */
+    public record Hit(JobOfferResponseDTO offer, float rank) {
+
+        static final Comparator<Hit> ORDER = Comparator.comparingDouble(Hit::rank).reversed()
+                .thenComparing(hit -> hit.offer().id(), Comparator.reverseOrder());
+
+        /**
+         * Whether this hit comes after the given position in {@link #ORDER}.
+         */
+        public boolean isAfter(float rank, Long id) {
+            return this.rank < rank || (this.rank == rank && offer.id() < id);
+        }
+    }
+
+    /**
+     * One dictionary entry. The term instance is shared with the per-offer term lists.
+     */
+    private static final class Posting {
+
+        private final String term;
+        private volatile int[] docs = NO_DOCS;
+
+        private Posting(String term) {
+            this.term = term;
+        }
+
+        private void add(int doc) {
+            int[] current = docs;
+            int index = Arrays.binarySearch(current, doc);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            int[] next = new int[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insertAt);
+            next[insertAt] = doc;
+            System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+            docs = next;
+        }
+
+        private void remove(int doc) {
+            int[] current = docs;
+            int index = Arrays.binarySearch(current, doc);
+            if (index < 0) {
+                return;
+            }
+            int[] next = new int[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            docs = next;
+        }
+    }
+
+    /**
+     * Dictionary, forward index (offer -> postings) needed to un-index an offer's old terms, and the
+     * indexed responses. Only ever mutated while holding the write lock.
+     */
+    private static final class Segments {
+
+        private final ConcurrentHashMap<String, Posting> postings = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, Posting[]> termsByDoc = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, JobOfferResponseDTO> offers = new ConcurrentHashMap<>();
+
+        private void put(int doc, JobOfferResponseDTO offer, String[] terms) {
+            Posting[] previous = termsByDoc.get(doc);
+            Posting[] next = new Posting[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                next[i] = postings.computeIfAbsent(terms[i], Posting::new);
+                next[i].add(doc);
+            }
+            termsByDoc.put(doc, next);
+            offers.put(doc, offer);
+
+            if (previous != null) {
+                Set<String> kept = Set.of(terms);
+                for (Posting posting : previous) {
+                    if (!kept.contains(posting.term)) {
+                        unlink(posting, doc);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Bulk load into an empty instance: collects the offer ids of each term and sorts them once,
+         * where {@link #put} would copy the growing posting list for every single offer.
+         */
+        private void load(List<JobOfferResponseDTO> active) {
+            Map<Posting, IntStream.Builder> docsByPosting = new HashMap<>();
+            for (JobOfferResponseDTO offer : active) {
+                int doc = docId(offer.id());
+                String[] terms = termsOf(offer);
+                Posting[] linked = new Posting[terms.length];
+                for (int i = 0; i < terms.length; i++) {
+                    linked[i] = postings.computeIfAbsent(terms[i], Posting::new);
+                    docsByPosting.computeIfAbsent(linked[i], posting -> IntStream.builder()).add(doc);
+                }
+                termsByDoc.put(doc, linked);
+                offers.put(doc, offer);
+            }
+            docsByPosting.forEach((posting, docs) -> posting.docs = docs.build().sorted().toArray());
+        }
+
+        private void remove(int doc) {
+            offers.remove(doc);
+            Posting[] previous = termsByDoc.remove(doc);
+            if (previous != null) {
+                for (Posting posting : previous) {
+                    unlink(posting, doc);
+                }
+            }
+        }
+
+        private void unlink(Posting posting, int doc) {
+            posting.remove(doc);
+            if (posting.docs.length == 0) {
+                postings.remove(posting.term, posting);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- English: V2 Sequence allocation for JDBC batch inserts
+-- IDENTITY forces Hibernate to execute every INSERT immediately to read the generated key,
+-- which disables batching. The entities now draw ids from these sequences in blocks of 50
+-- (pooled-lo optimizer: nextval returns the first id of a block of 50 owned by the caller).
+
+-- 1. Sequences must advance by the same step as @SequenceGenerator(allocationSize = 50)
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE job_offers_id_seq INCREMENT BY 50;
+ALTER SEQUENCE job_applications_id_seq INCREMENT BY 50;
+
+-- 2. Restart each sequence right above the existing data
+-- Note: Column defaults still use nextval(), so manual inserts simply consume a whole block.
+SELECT setval('users_id_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+SELECT setval('job_offers_id_seq', COALESCE((SELECT MAX(id) FROM job_offers), 0) + 1, false);
+SELECT setval('job_applications_id_seq', COALESCE((SELECT MAX(id) FROM job_applications), 0) + 1, false);
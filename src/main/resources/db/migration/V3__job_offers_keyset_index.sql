@@ -0,0 +1,12 @@
+-- English: V3 Keyset pagination for GET /api/jobs
+-- Listings are ordered by (created_at DESC, id DESC); these indexes let PostgreSQL
+-- seek straight to the cursor position instead of scanning and sorting the table.
+
+-- 1. Active-only listing (default); also serves WHERE active = true lookups
+CREATE INDEX idx_job_offers_active_created_id ON job_offers (active, created_at DESC, id DESC);
+
+-- 2. Full listing including inactive offers
+CREATE INDEX idx_job_offers_created_id ON job_offers (created_at DESC, id DESC);
+
+-- 3. Superseded by the leading column of idx_job_offers_active_created_id
+DROP INDEX IF EXISTS idx_job_offers_active;
@@ -0,0 +1,19 @@
+-- English: V4 Composite indexes for the filtered, keyset paginated application listing
+-- Every listing is ordered by (applied_at DESC, id DESC), so each index ends with those columns
+-- and PostgreSQL can return a page without sorting.
+
+-- 1. Applications of a job offer, optionally by status (recruiter view)
+CREATE INDEX idx_job_applications_offer_status_applied
+    ON job_applications (job_offer_id, status, applied_at DESC, id DESC);
+
+-- 2. Applications of a candidate
+CREATE INDEX idx_job_applications_candidate_applied
+    ON job_applications (candidate_id, applied_at DESC, id DESC);
+
+-- 3. Unfiltered listing and appliedAt ranges
+CREATE INDEX idx_job_applications_applied
+    ON job_applications (applied_at DESC, id DESC);
+
+-- 4. Superseded by the leading columns of the indexes above
+DROP INDEX IF EXISTS idx_job_applications_candidate;
+DROP INDEX IF EXISTS idx_job_applications_job_offer;
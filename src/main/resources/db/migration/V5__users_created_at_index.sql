@@ -0,0 +1,4 @@
+-- English: V5 Keyset pagination for GET /api/candidates
+-- Candidates are listed newest registration first: (users.created_at DESC, users.id DESC).
+-- PostgreSQL walks this index and probes candidates by primary key, stopping after one page.
+CREATE INDEX idx_users_created_id ON users (created_at DESC, id DESC);
@@ -0,0 +1,16 @@
+-- English: V6 Full-text search for GET /api/jobs/search
+-- The tsvector is a STORED generated column, so PostgreSQL keeps it in sync on every write
+-- and no application code (or trigger) has to maintain it.
+-- The 'simple' configuration does not stem, which keeps German and English postings searchable alike.
+-- Weights: title (A) > location (B) > description (C).
+
+-- 1. Generated search document
+ALTER TABLE job_offers
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(location, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+
+-- 2. Search is limited to active offers, so only those are indexed
+CREATE INDEX idx_job_offers_search_vector ON job_offers USING GIN (search_vector) WHERE active = TRUE;
@@ -0,0 +1,44 @@
+-- English: V7 Persisted audit trail, range partitioned by month
+-- Rows are only ever appended (JDBC batches from the AuditLog writer) and read by time range or actor.
+-- Monthly partitions keep each index small, let range queries skip whole months and let retention
+-- drop a month with DROP TABLE instead of a bulk DELETE.
+
+-- 1. Parent table (the partition key has to be part of the primary key)
+-- Note: Identity columns are not supported on partitioned tables before PostgreSQL 17, hence BIGSERIAL.
+CREATE TABLE audit_events (
+    id BIGSERIAL NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    action VARCHAR(64) NOT NULL,
+    actor VARCHAR(255) NOT NULL,
+    outcome VARCHAR(16) NOT NULL,
+    correlation_id VARCHAR(64),
+    details JSONB NOT NULL DEFAULT '{}'::jsonb,
+    CONSTRAINT pk_audit_events PRIMARY KEY (occurred_at, id)
+) PARTITION BY RANGE (occurred_at);
+
+-- 2. Lookups are ordered by (occurred_at DESC, id DESC) for keyset pagination; indexes on the
+-- parent are created on every partition automatically
+CREATE INDEX idx_audit_events_occurred ON audit_events (occurred_at DESC, id DESC);
+CREATE INDEX idx_audit_events_actor_occurred ON audit_events (actor, occurred_at DESC, id DESC);
+
+-- 3. Creates the partition for the month containing month_start (UTC bounds), if missing.
+-- Called again by AuditPartitionMaintenance to keep partitions ahead of time.
+CREATE FUNCTION create_audit_events_partition(month_start DATE) RETURNS TEXT AS $$
+DECLARE
+    first_day DATE := date_trunc('month', month_start)::date;
+    partition_name TEXT := 'audit_events_' || to_char(first_day, 'YYYY_MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_events FOR VALUES FROM (%L) TO (%L)',
+                   partition_name,
+                   first_day::timestamp AT TIME ZONE 'UTC',
+                   (first_day + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC');
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 4. Current month and the next three
+SELECT create_audit_events_partition((date_trunc('month', NOW() AT TIME ZONE 'UTC') + make_interval(months => m))::date)
+FROM generate_series(0, 3) AS m;
+
+-- 5. Catch-all so an insert never fails if maintenance fell behind (kept empty in normal operation)
+CREATE TABLE audit_events_default PARTITION OF audit_events DEFAULT;
@@ -0,0 +1,46 @@
+-- English: V8 Application status as a SMALLINT code (see ApplicationStatus) instead of free text
+-- 0 PENDING, 1 REVIEWING, 2 INTERVIEW, 3 OFFERED (open) | 4 ACCEPTED, 5 REJECTED, 6 WITHDRAWN (terminal)
+
+-- 1. Refuse to guess: any value without a mapping stops the migration
+DO $$
+DECLARE
+    unknown TEXT;
+BEGIN
+    SELECT string_agg(DISTINCT status, ', ') INTO unknown
+    FROM job_applications
+    WHERE upper(trim(status)) NOT IN ('PENDING', 'REVIEWING', 'REVIEWED', 'IN_REVIEW', 'INTERVIEW', 'INTERVIEWING',
+                                      'OFFERED', 'ACCEPTED', 'HIRED', 'REJECTED', 'WITHDRAWN');
+    IF unknown IS NOT NULL THEN
+        RAISE EXCEPTION 'Unmapped job application statuses: %', unknown;
+    END IF;
+END $$;
+
+-- 2. Convert in place (one table rewrite; dependent indexes are rebuilt)
+ALTER TABLE job_applications ALTER COLUMN status DROP DEFAULT;
+ALTER TABLE job_applications ALTER COLUMN status TYPE SMALLINT USING
+    CASE upper(trim(status))
+        WHEN 'PENDING' THEN 0
+        WHEN 'REVIEWING' THEN 1
+        WHEN 'REVIEWED' THEN 1
+        WHEN 'IN_REVIEW' THEN 1
+        WHEN 'INTERVIEW' THEN 2
+        WHEN 'INTERVIEWING' THEN 2
+        WHEN 'OFFERED' THEN 3
+        WHEN 'ACCEPTED' THEN 4
+        WHEN 'HIRED' THEN 4
+        WHEN 'REJECTED' THEN 5
+        WHEN 'WITHDRAWN' THEN 6
+    END;
+ALTER TABLE job_applications ALTER COLUMN status SET DEFAULT 0;
+ALTER TABLE job_applications ADD CONSTRAINT ck_job_applications_status CHECK (status BETWEEN 0 AND 6);
+
+-- 3. Recruiter inbox: open applications of an offer, by status. Closed applications pile up over time,
+-- so indexing only the open ones keeps this index small (queries must repeat the predicate)
+DROP INDEX IF EXISTS idx_job_applications_offer_status_applied;
+CREATE INDEX idx_job_applications_offer_open
+    ON job_applications (job_offer_id, status, applied_at DESC, id DESC)
+    WHERE status <= 3;
+
+-- 4. Any other listing of an offer (including closed statuses) walks the offer in keyset order
+CREATE INDEX idx_job_applications_offer_applied
+    ON job_applications (job_offer_id, applied_at DESC, id DESC);
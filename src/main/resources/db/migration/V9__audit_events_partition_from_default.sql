@@ -0,0 +1,33 @@
+-- English: V9 Partition creation takes over rows that already landed in audit_events_default
+-- PostgreSQL refuses to create a partition while the default partition holds rows for its range, so
+-- after one missed month every later maintenance run failed. The month is now built as a plain table,
+-- filled with the rows moved out of the default partition and then attached.
+
+CREATE OR REPLACE FUNCTION create_audit_events_partition(month_start DATE) RETURNS TEXT AS $$
+DECLARE
+    first_day DATE := date_trunc('month', month_start)::date;
+    partition_name TEXT := 'audit_events_' || to_char(first_day, 'YYYY_MM');
+    range_start TIMESTAMP WITH TIME ZONE := first_day::timestamp AT TIME ZONE 'UTC';
+    range_end TIMESTAMP WITH TIME ZONE := (first_day + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC';
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- 1. No new rows for this month may reach the default partition until it is attached; this also
+    -- serializes concurrent callers, so re-check once the lock is held
+    LOCK TABLE audit_events_default IN SHARE ROW EXCLUSIVE MODE;
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- 2. Build the month and move its rows over (the parent's indexes are added on ATTACH)
+    EXECUTE format('CREATE TABLE %I (LIKE audit_events INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM audit_events_default WHERE occurred_at >= %L AND occurred_at < %L '
+                       || 'RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                   range_start, range_end, partition_name);
+    EXECUTE format('ALTER TABLE audit_events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,92 @@
+package com.nikolaspc.jobapp.audit;
+
+import com.nikolaspc.jobapp.dto.AuditEventDTO;
+import com.nikolaspc.jobapp.dto.AuditEventFilter;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JdbcTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(AuditEventRepository.class)
+class AuditEventRepositoryIT {
+
+    @Autowired
+    private AuditEventRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // English: Last day of the current month, so the events span two monthly partitions
+    private final Instant monthEnd = YearMonth.now(ZoneOffset.UTC).atEndOfMonth()
+            .atTime(23, 0).toInstant(ZoneOffset.UTC);
+
+    @BeforeEach
+    void setUp() {
+        List<AuditEvent> events = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String actor = i % 2 == 0 ? "anna@example.com" : "ben@example.com";
+            events.add(new AuditEvent(monthEnd.plus(i * 30L, ChronoUnit.MINUTES), "LOGIN", actor,
+                    AuditEvent.Outcome.SUCCESS, "corr-" + i, Map.of("ip", "10.0.0." + i)));
+        }
+        repository.insertAll(events);
+    }
+
+    @Test
+    void shouldStoreEventsInMonthlyPartitions() {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT DISTINCT tableoid::regclass::text FROM audit_events WHERE correlation_id LIKE 'corr-%'
+                ORDER BY 1""", String.class);
+
+        YearMonth month = YearMonth.now(ZoneOffset.UTC);
+        assertThat(partitions).containsExactly(
+                "audit_events_" + month.toString().replace('-', '_'),
+                "audit_events_" + month.plusMonths(1).toString().replace('-', '_'));
+    }
+
+    @Test
+    void shouldWalkEventsOfOneActorWithKeysetPages() {
+        AuditEventFilter filter = new AuditEventFilter("anna@example.com", null, null, null);
+
+        List<AuditEventDTO> firstPage = repository.findPage(filter, null, 2);
+        AuditEventDTO last = firstPage.get(1);
+        List<AuditEventDTO> secondPage = repository.findPage(filter,
+                new KeysetCursor(LocalDateTime.ofInstant(last.occurredAt(), ZoneOffset.UTC), last.id()), 2);
+
+        assertThat(firstPage).extracting(AuditEventDTO::correlationId).containsExactly("corr-4", "corr-2");
+        assertThat(secondPage).extracting(AuditEventDTO::correlationId).containsExactly("corr-0");
+        assertThat(secondPage.get(0).details()).containsEntry("ip", "10.0.0.0");
+        assertThat(secondPage.get(0).outcome()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    void shouldFilterByHalfOpenTimeRange() {
+        AuditEventFilter filter = new AuditEventFilter(null, "LOGIN",
+                monthEnd.plus(30, ChronoUnit.MINUTES), monthEnd.plus(120, ChronoUnit.MINUTES));
+
+        List<AuditEventDTO> events = repository.findPage(filter, null, 10);
+
+        assertThat(events).extracting(AuditEventDTO::correlationId).containsExactly("corr-3", "corr-2", "corr-1");
+    }
+}
@@ -0,0 +1,202 @@
+package com.nikolaspc.jobapp.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@DisplayName("AuditLog Unit Tests")
+class AuditLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingSink sink = new RecordingSink();
+    private AuditLog auditLog;
+
+    @AfterEach
+    void tearDown() {
+        if (auditLog != null && auditLog.isRunning()) {
+            sink.release();
+            auditLog.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write recorded events on the writer thread and drain the queue on stop")
+    void record_ShouldBeWrittenByStop() {
+        auditLog = newAuditLog(100);
+        auditLog.start();
+
+        for (int i = 0; i < 25; i++) {
+            auditLog.record(event("user" + i));
+        }
+        auditLog.stop();
+
+        assertThat(sink.events()).extracting(AuditEvent::actor).hasSize(25).startsWith("user0").endsWith("user24");
+        assertThat(sink.writerThreads).allMatch("audit-writer-RecordingSink"::equals);
+        assertThat(sink.closed).isTrue();
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("Should drop events instead of blocking when the queue is full")
+    void record_QueueFull_ShouldDrop() throws InterruptedException {
+        auditLog = newAuditLog(2);
+        sink.block();
+        auditLog.start();
+
+        auditLog.record(event("first"));
+        assertThat(sink.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        // English: The writer is stuck on "first"; two fit into the queue, the third is dropped
+        auditLog.record(event("second"));
+        auditLog.record(event("third"));
+        auditLog.record(event("fourth"));
+
+        assertThat(meterRegistry.get("audit.events.dropped").counter().count()).isEqualTo(1.0);
+        sink.release();
+        auditLog.stop();
+        assertThat(sink.events()).extracting(AuditEvent::actor).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("Should retry a failing sink with the same batch")
+    void record_SinkFailure_ShouldRetry() throws InterruptedException {
+        auditLog = newAuditLog(100);
+        sink.failures.set(2);
+        auditLog.start();
+
+        auditLog.record(event("anna@example.com"));
+        // English: Retries only happen while running, stop() would give the batch a single attempt
+        assertThat(sink.written.await(5, TimeUnit.SECONDS)).isTrue();
+        auditLog.stop();
+
+        assertThat(sink.events()).extracting(AuditEvent::actor).containsExactly("anna@example.com");
+        assertThat(meterRegistry.get("audit.events.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop retrying and finish shutdown when a sink never recovers")
+    void stop_SinkAlwaysFailing_ShouldNotHang() throws InterruptedException {
+        auditLog = newAuditLog(100);
+        sink.failForever();
+        auditLog.start();
+
+        auditLog.record(event("first"));
+        assertThat(sink.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        auditLog.record(event("second"));
+        assertTimeoutPreemptively(Duration.ofSeconds(3), () -> auditLog.stop());
+
+        assertThat(sink.events()).isEmpty();
+        assertThat(sink.closed).isTrue();
+        assertThat(meterRegistry.get("audit.events.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should keep writing to a healthy sink while another sink is down")
+    void record_OneSinkDown_ShouldNotHoldBackTheOthers() throws InterruptedException {
+        RecordingSink failing = new FailingSink();
+        auditLog = new AuditLog(List.of(failing, sink), meterRegistry, 100, 10, Duration.ofMillis(10), Duration.ofSeconds(5));
+        auditLog.start();
+
+        auditLog.record(event("first"));
+        assertThat(failing.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.written.await(5, TimeUnit.SECONDS)).isTrue();
+        // English: Queued behind the failing batch for one sink, written right away by the other
+        for (int i = 0; i < 5; i++) {
+            auditLog.record(event("user" + i));
+        }
+        auditLog.stop();
+
+        assertThat(sink.events()).extracting(AuditEvent::actor)
+                .containsExactly("first", "user0", "user1", "user2", "user3", "user4");
+        assertThat(meterRegistry.get("audit.events.dropped").tag("sink", "RecordingSink").counter().count()).isZero();
+        // English: Given up on at shutdown, not while the healthy sink was writing
+        assertThat(meterRegistry.get("audit.events.dropped").tag("sink", "FailingSink").counter().count())
+                .isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("Should write synchronously when the writer is not running")
+    void record_NotRunning_ShouldWriteSynchronously() {
+        auditLog = newAuditLog(100);
+
+        auditLog.record(event("early"));
+
+        assertThat(sink.events()).extracting(AuditEvent::actor).containsExactly("early");
+        assertThat(sink.writerThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    private AuditLog newAuditLog(int queueCapacity) {
+        return new AuditLog(List.of(sink), meterRegistry, queueCapacity, 10, Duration.ofMillis(10), Duration.ofSeconds(5));
+    }
+
+    private static AuditEvent event(String actor) {
+        return AuditEvent.of("LOGIN", actor, AuditEvent.Outcome.SUCCESS, Map.of());
+    }
+
+    private static class RecordingSink implements AuditSink {
+
+        private final List<List<AuditEvent>> batches = new CopyOnWriteArrayList<>();
+        private final List<String> writerThreads = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch written = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile boolean closed;
+
+        @Override
+        public void write(List<AuditEvent> batch) throws IOException {
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (failures.getAndDecrement() > 0) {
+                throw new IOException("disk full");
+            }
+            batches.add(List.copyOf(batch));
+            writerThreads.add(Thread.currentThread().getName());
+            written.countDown();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void failForever() {
+            failures.set(Integer.MAX_VALUE);
+        }
+
+        List<AuditEvent> events() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    private static class FailingSink extends RecordingSink {
+
+        FailingSink() {
+            failForever();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.nikolaspc.jobapp.audit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+@JdbcTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AuditPartitionMaintenance.class)
+class AuditPartitionMaintenanceIT {
+
+    @Autowired
+    private AuditPartitionMaintenance maintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // English: Within retention, but before the months V7 and the maintenance create ahead of time
+    private final YearMonth missedMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(6);
+    private final String partition = "audit_events_" + missedMonth.toString().replace('-', '_');
+
+    @Test
+    void shouldMoveRowsOutOfTheDefaultPartitionIntoTheirMonth() {
+        assumeThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, partition)).isNull();
+        insertEvent("missed-1", 3);
+        insertEvent("missed-2", 20);
+        assertThat(partitionsOf("missed-%")).containsExactly("audit_events_default");
+
+        maintenance.maintain();
+        maintenance.maintain();
+
+        assertThat(partitionsOf("missed-%")).containsExactly(partition);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM audit_events WHERE correlation_id LIKE 'missed-%'",
+                Integer.class)).isEqualTo(2);
+        // English: The month accepts new rows directly afterwards
+        insertEvent("missed-3", 25);
+        assertThat(partitionsOf("missed-3")).containsExactly(partition);
+    }
+
+    private void insertEvent(String correlationId, int day) {
+        jdbcTemplate.update("""
+                INSERT INTO audit_events (occurred_at, action, actor, outcome, correlation_id)
+                VALUES (?, 'LOGIN', 'anna@example.com', 'SUCCESS', ?)""",
+                OffsetDateTime.of(missedMonth.atDay(day).atTime(12, 0), ZoneOffset.UTC), correlationId);
+    }
+
+    private List<String> partitionsOf(String correlationIds) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT tableoid::regclass::text FROM audit_events WHERE correlation_id LIKE ?""",
+                String.class, correlationIds);
+    }
+}
@@ -0,0 +1,158 @@
+package com.nikolaspc.jobapp.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AuditSegmentFileSink Unit Tests")
+class AuditSegmentFileSinkTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T23:59:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @TempDir
+    Path directory;
+
+    private AuditSegmentFileSink sink;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sink.close();
+    }
+
+    @Test
+    @DisplayName("Should append one JSON line per event")
+    void write_ShouldAppendJsonLines() throws IOException {
+        sink = newSink(DataSize.ofMegabytes(1));
+
+        sink.write(List.of(event("anna@example.com"), event("ben@example.com")));
+        sink.write(List.of(event("carl@example.com")));
+
+        List<Path> segments = segments();
+        assertThat(segments).hasSize(1);
+        List<String> lines = Files.readAllLines(segments.get(0));
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("actor").asText()).isEqualTo("anna@example.com");
+        assertThat(first.get("outcome").asText()).isEqualTo("FAILURE");
+        assertThat(first.get("details").get("reason").asText()).isEqualTo("BadCredentialsException");
+    }
+
+    @Test
+    @DisplayName("Should start a new segment once the current one would exceed the segment size")
+    void write_SegmentFull_ShouldRotate() throws IOException {
+        sink = newSink(DataSize.ofBytes(300));
+
+        for (int i = 0; i < 5; i++) {
+            sink.write(List.of(event("user" + i + "@example.com")));
+        }
+
+        List<Path> segments = segments();
+        assertThat(segments).hasSizeGreaterThan(1);
+        assertThat(segments.stream().mapToLong(this::lineCount).sum()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should start a new segment on a new UTC day")
+    void write_NextDay_ShouldRotate() throws IOException {
+        sink = newSink(DataSize.ofMegabytes(1));
+
+        sink.write(List.of(event("anna@example.com")));
+        clock.advance(Duration.ofMinutes(2));
+        sink.write(List.of(event("ben@example.com")));
+
+        assertThat(segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("audit-20260310-235900-000.jsonl", "audit-20260311-000100-000.jsonl");
+    }
+
+    @Test
+    @DisplayName("Should delete segments older than the retention period")
+    void write_ShouldDeleteExpiredSegments() throws IOException {
+        Path expired = Files.writeString(directory.resolve("audit-20260101-000000-000.jsonl"), "{}\n");
+        Files.setLastModifiedTime(expired, FileTime.from(NOW.minus(Duration.ofDays(31))));
+        Path recent = Files.writeString(directory.resolve("audit-20260301-000000-000.jsonl"), "{}\n");
+        Files.setLastModifiedTime(recent, FileTime.from(NOW.minus(Duration.ofDays(9))));
+        sink = newSink(DataSize.ofMegabytes(1));
+
+        sink.write(List.of(event("anna@example.com")));
+
+        assertThat(expired).doesNotExist();
+        assertThat(recent).exists();
+    }
+
+    private AuditSegmentFileSink newSink(DataSize segmentSize) {
+        return new AuditSegmentFileSink(objectMapper, directory, segmentSize, Duration.ofDays(30), clock);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private long lineCount(Path file) {
+        try {
+            return Files.readAllLines(file).size();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private AuditEvent event(String actor) {
+        return new AuditEvent(clock.instant(), "LOGIN", actor, AuditEvent.Outcome.FAILURE, "corr-1",
+                Map.of("reason", "BadCredentialsException"));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
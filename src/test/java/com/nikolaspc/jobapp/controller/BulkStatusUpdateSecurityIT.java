@@ -0,0 +1,79 @@
+package com.nikolaspc.jobapp.controller;
+
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.security.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PATCH /api/applications/status through the full security filter chain: reachable from the
+ * browser client (CORS preflight) and limited to recruiters and admins.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BulkStatusUpdateSecurityIT {
+
+    private static final String ORIGIN = "http://localhost:3000";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shouldAllowPatchInCorsPreflight() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri())
+                .header("Origin", ORIGIN)
+                .header("Access-Control-Request-Method", "PATCH")
+                .header("Access-Control-Request-Headers", "Authorization, Content-Type")
+                .method("OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Access-Control-Allow-Methods")).hasValueSatisfying(
+                methods -> assertThat(methods).contains("PATCH"));
+    }
+
+    @Test
+    void shouldRejectCandidates() throws Exception {
+        assertThat(patchAs(UserRole.CANDIDATE)).isEqualTo(403);
+    }
+
+    @Test
+    void shouldLetRecruitersAndAdminsThrough() throws Exception {
+        // English: The empty selection fails validation, which proves the request passed the security chain
+        assertThat(patchAs(UserRole.RECRUITER)).isEqualTo(400);
+        assertThat(patchAs(UserRole.ADMIN)).isEqualTo(400);
+    }
+
+    private int patchAs(UserRole role) throws Exception {
+        String token = tokenProvider.generateToken(User.builder()
+                .id(1L).email(role.name().toLowerCase() + "@example.com").role(role).build());
+        HttpRequest request = HttpRequest.newBuilder(uri())
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI uri() {
+        return URI.create("http://localhost:" + port + "/api/applications/status");
+    }
+}
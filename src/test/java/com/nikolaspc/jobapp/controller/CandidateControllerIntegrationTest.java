@@ -2,6 +2,7 @@ package com.nikolaspc.jobapp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nikolaspc.jobapp.dto.CandidateDTO;
+import com.nikolaspc.jobapp.dto.CursorPage;
 import com.nikolaspc.jobapp.security.JwtTokenProvider;
 import com.nikolaspc.jobapp.service.CandidateService;
 import org.junit.jupiter.api.DisplayName;
@@ -44,7 +45,7 @@ class CandidateControllerIntegrationTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Test
-    @DisplayName("GET /api/candidates - Should return all candidates")
+    @DisplayName("GET /api/candidates - Should return a page of candidates")
     void getAllCandidates_ShouldReturnCandidateList() throws Exception {
         List<CandidateDTO> candidates = Arrays.asList(
                 CandidateDTO.builder()
@@ -63,16 +64,19 @@ class CandidateControllerIntegrationTest {
                         .build()
         );
 
-        when(service.findAll()).thenReturn(candidates);
+        when(service.findPage(null, 2)).thenReturn(new CursorPage<>(candidates, "next-token", true));
 
         mockMvc.perform(get("/api/candidates")
+                        .param("size", "2")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].firstName", is("Max")))
-                .andExpect(jsonPath("$[1].firstName", is("Anna")));
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].firstName", is("Max")))
+                .andExpect(jsonPath("$.items[1].firstName", is("Anna")))
+                .andExpect(jsonPath("$.nextCursor", is("next-token")))
+                .andExpect(jsonPath("$.hasMore", is(true)));
 
-        verify(service, times(1)).findAll();
+        verify(service, times(1)).findPage(null, 2);
     }
 
     @Test
@@ -0,0 +1,175 @@
+package com.nikolaspc.jobapp.controller;
+
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.PreparedJson;
+import com.nikolaspc.jobapp.dto.ResourceVersion;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.security.JwtTokenProvider;
+import com.nikolaspc.jobapp.service.JobOfferService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for JobOfferController conditional requests.
+ */
+@WebMvcTest(JobOfferController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("JobOfferController Integration Tests")
+class JobOfferControllerIntegrationTest {
+
+    private static final Instant MODIFIED = Instant.parse("2025-03-01T09:30:15Z");
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JobOfferService service;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("GET /api/jobs - Should return validators with the page")
+    void getAll_ShouldReturnEtagAndLastModified() throws Exception {
+        when(service.catalogVersion()).thenReturn(new ResourceVersion("abc-7", MODIFIED));
+        when(service.findPage(null, null, true)).thenReturn(new CursorPage<>(List.of(offer()), null, false));
+
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-7\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, httpDate(MODIFIED)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.items[0].title", is("Java Dev")));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs - Should answer 304 without loading offers when the ETag matches")
+    void getAll_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        when(service.catalogVersion()).thenReturn(new ResourceVersion("abc-7", MODIFIED));
+
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.IF_NONE_MATCH, "\"abc-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-7\""))
+                .andExpect(content().string(""));
+
+        verify(service, never()).findPage(any(), any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs - Should return the page again once the catalogue changed")
+    void getAll_WithStaleEtag_ShouldReturnPage() throws Exception {
+        when(service.catalogVersion()).thenReturn(new ResourceVersion("abc-8", MODIFIED));
+        when(service.findPage(null, null, true)).thenReturn(new CursorPage<>(List.of(offer()), null, false));
+
+        mockMvc.perform(get("/api/jobs").header(HttpHeaders.IF_NONE_MATCH, "\"abc-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-8\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/{id} - Should answer 304 when the offer was not modified since")
+    void getById_WithIfModifiedSince_ShouldReturnNotModified() throws Exception {
+        when(service.findById(1L)).thenReturn(modifiedOffer());
+
+        mockMvc.perform(get("/api/jobs/1").header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(MODIFIED)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/{id} - Should derive ETag and Last-Modified from the returned offer")
+    void getById_WhenModified_ShouldReturnOfferWithItsValidators() throws Exception {
+        when(service.findById(1L)).thenReturn(modifiedOffer());
+
+        mockMvc.perform(get("/api/jobs/1").header(HttpHeaders.IF_MODIFIED_SINCE, httpDate(MODIFIED.minusSeconds(60))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        "\"1-" + Long.toHexString(MODIFIED.getEpochSecond()) + ".0\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, httpDate(MODIFIED)))
+                .andExpect(jsonPath("$.id", is(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/{id} - Should not confirm an older ETag once the offer changed")
+    void getById_WithOutdatedEtag_ShouldReturnOffer() throws Exception {
+        when(service.findById(1L)).thenReturn(modifiedOffer());
+
+        mockMvc.perform(get("/api/jobs/1").header(HttpHeaders.IF_NONE_MATCH,
+                        "\"1-" + Long.toHexString(MODIFIED.minusSeconds(60).getEpochSecond()) + ".0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("Java Dev")));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/active - Should write the pre-compressed body when gzip is accepted")
+    void getActive_WithGzip_ShouldReturnCompressedSnapshot() throws Exception {
+        when(service.findActiveOffersJson()).thenReturn(snapshot());
+
+        mockMvc.perform(get("/api/jobs/active").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"digest-gzip\""))
+                .andExpect(content().bytes(new byte[]{31, -117, 8}));
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/active - Should write plain JSON and honour If-None-Match")
+    void getActive_WithoutGzip_ShouldReturnJsonOrNotModified() throws Exception {
+        when(service.findActiveOffersJson()).thenReturn(snapshot());
+
+        mockMvc.perform(get("/api/jobs/active").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].title", is("Java Dev")));
+
+        mockMvc.perform(get("/api/jobs/active").header(HttpHeaders.IF_NONE_MATCH, "\"digest\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    private static PreparedJson snapshot() {
+        byte[] json = "[{\"id\":1,\"title\":\"Java Dev\"}]".getBytes(StandardCharsets.UTF_8);
+        return new PreparedJson(json, new byte[]{31, -117, 8}, "digest", MODIFIED);
+    }
+
+    private static JobOfferResponseDTO offer() {
+        return new JobOfferResponseDTO(1L, "Java Dev", "Desc", "Berlin", "FULL_TIME", true,
+                LocalDateTime.of(2025, 3, 1, 9, 0), null);
+    }
+
+    private static JobOfferResponseDTO modifiedOffer() {
+        // English: The controller reads entity timestamps in the JVM default zone
+        return new JobOfferResponseDTO(1L, "Java Dev", "Desc", "Berlin", "FULL_TIME", true,
+                LocalDateTime.of(2025, 3, 1, 9, 0), LocalDateTime.ofInstant(MODIFIED, ZoneId.systemDefault()));
+    }
+
+    private static String httpDate(Instant instant) {
+        return HTTP_DATE.format(instant.atOffset(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,125 @@
+package com.nikolaspc.jobapp.controller;
+
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.mapper.JobOfferMapperImpl;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.security.JwtTokenProvider;
+import com.nikolaspc.jobapp.service.cache.ActiveJobOffersSnapshot;
+import com.nikolaspc.jobapp.service.cache.JobOfferCatalogVersion;
+import com.nikolaspc.jobapp.service.impl.JobOfferServiceImpl;
+import com.nikolaspc.jobapp.service.search.JobOfferFacetCounts;
+import com.nikolaspc.jobapp.service.search.JobOfferSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GET /api/jobs/search through the real service and search index, with the database mocked out.
+ */
+@WebMvcTest(JobOfferController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({JobOfferServiceImpl.class, JobOfferSearchIndex.class, JobOfferMapperImpl.class,
+        JobOfferSearchIntegrationTest.Metrics.class})
+@DisplayName("JobOffer Search Integration Tests")
+class JobOfferSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobOfferSearchIndex searchIndex;
+
+    @MockitoBean
+    private JobOfferRepository repository;
+
+    @MockitoBean
+    private JobOfferFacetCounts facetCounts;
+
+    @MockitoBean
+    private JobOfferCatalogVersion catalogVersion;
+
+    @MockitoBean
+    private ActiveJobOffersSnapshot activeOffersSnapshot;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findByActiveTrue()).thenReturn(List.of(
+                offer(1L, "Java Backend Developer", "Spring Boot, PostgreSQL", "Berlin"),
+                offer(2L, "Frontend Developer", "React, some Java", "Munich"),
+                offer(3L, "Java Architect", "Microservices", "Berlin")));
+        searchIndex.rebuild();
+        clearInvocations(repository);
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/search - Should answer plain term queries from memory, best matches first")
+    void search_PlainTerms_ShouldNotQueryTheDatabase() throws Exception {
+        String nextCursor = mockMvc.perform(get("/api/jobs/search").param("q", "java").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", contains(3, 1)))
+                .andExpect(jsonPath("$.hasMore", is(true)))
+                .andReturn().getResponse().getContentAsString()
+                .replaceAll(".*\"nextCursor\":\"([^\"]+)\".*", "$1");
+
+        mockMvc.perform(get("/api/jobs/search").param("q", "java").param("size", "2").param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].id", contains(2)))
+                .andExpect(jsonPath("$.items[0].title", is("Frontend Developer")))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("GET /api/jobs/search - Should leave phrase queries to PostgreSQL")
+    void search_Phrase_ShouldQueryTheDatabase() throws Exception {
+        mockMvc.perform(get("/api/jobs/search").param("q", "\"java architect\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", is(List.of())));
+
+        verify(repository).search(anyString(), anyInt());
+    }
+
+    private static JobOffer offer(Long id, String title, String description, String location) {
+        return JobOffer.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .location(location)
+                .employmentType("FULL_TIME")
+                .active(true)
+                .build();
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.nikolaspc.jobapp.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Login throttling behind a load balancer: the test client connects from 127.0.0.1 (a trusted
+ * proxy address), so the per-IP limit applies to the address in X-Forwarded-For.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "app.security.login-throttle.ip.burst=3",
+        "app.security.login-throttle.email.burst=100"})
+class LoginThrottlingBehindProxyIT {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shouldThrottleEachForwardedClientSeparately() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("203.0.113.10", "proxy-a" + i + "@example.com")).isNotEqualTo(429);
+        }
+        assertThat(login("203.0.113.10", "proxy-a9@example.com")).isEqualTo(429);
+
+        // English: Same proxy connection, different client: not affected by the first client's attempts
+        assertThat(login("203.0.113.20", "proxy-b@example.com")).isNotEqualTo(429);
+    }
+
+    private int login(String clientIp, String email) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"wrong-password\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,143 @@
+package com.nikolaspc.jobapp.datasource;
+
+import com.nikolaspc.jobapp.AbstractTestContainers;
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferRequestDTO;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
+import com.nikolaspc.jobapp.service.JobApplicationService;
+import com.nikolaspc.jobapp.service.JobOfferService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Two independent PostgreSQL containers play primary and replica. Each holds a job application
+ * the other does not, so the row a read finds tells which database served it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReadReplicaRoutingIT extends AbstractTestContainers {
+
+    private static final long PRIMARY_ONLY_ID = 910_001L;
+    private static final long REPLICA_ONLY_ID = 920_001L;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static final PostgreSQLContainer<?> replicaContainer =
+            new PostgreSQLContainer<>("postgres:14-alpine")
+                    .withDatabaseName("job_application_replica_db")
+                    .withUsername("test_user")
+                    .withPassword("test_pass");
+
+    @Autowired
+    private JobApplicationService applicationService;
+
+    @Autowired
+    private JobOfferService jobOfferService;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaDataSource;
+
+    @DynamicPropertySource
+    static void registerReplica(DynamicPropertyRegistry registry) {
+        if (!replicaContainer.isRunning()) {
+            replicaContainer.start();
+        }
+        registry.add("app.datasource.replicas.urls", replicaContainer::getJdbcUrl);
+        registry.add("app.datasource.replicas.username", replicaContainer::getUsername);
+        registry.add("app.datasource.replicas.password", replicaContainer::getPassword);
+        registry.add("app.datasource.replicas.health-check-interval", () -> "200ms");
+    }
+
+    @BeforeAll
+    static void seed() {
+        // English: Runs before the application context; a real replica would get the schema through replication
+        migrate(postgreSQLContainer);
+        migrate(replicaContainer);
+        seedApplication(jdbc(postgreSQLContainer), PRIMARY_ONLY_ID);
+        seedApplication(jdbc(replicaContainer), REPLICA_ONLY_ID);
+    }
+
+    @BeforeEach
+    void awaitHealthCheck() {
+        if (replicaContainer.isRunning()) {
+            await().atMost(TIMEOUT).until(() -> replicaDataSource.availableReplicas() == 1);
+        }
+    }
+
+    @Test
+    @Order(1)
+    void readOnlyTransactionsShouldBeServedByTheReplica() {
+        assertThat(applicationService.findById(REPLICA_ONLY_ID).getId()).isEqualTo(REPLICA_ONLY_ID);
+        assertThatThrownBy(() -> applicationService.findById(PRIMARY_ONLY_ID))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @Order(2)
+    void pinnedReadsShouldBeServedByThePrimary() {
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> applicationService.findById(PRIMARY_ONLY_ID)).getId())
+                .isEqualTo(PRIMARY_ONLY_ID);
+    }
+
+    @Test
+    @Order(3)
+    void jobOfferReadsShouldSeeAnOfferRightAfterItWasCreated() {
+        // English: The "replica" never receives the insert, like one lagging for longer than the test runs
+        JobOfferResponseDTO created = jobOfferService.create(
+                new JobOfferRequestDTO("Read your writes", "Desc", "Hamburg", "FULL_TIME"));
+
+        assertThat(jobOfferService.findById(created.id()).title()).isEqualTo("Read your writes");
+        assertThat(jobOfferService.findPage(null, CursorPage.MAX_SIZE, true).items())
+                .extracting(JobOfferResponseDTO::id)
+                .contains(created.id());
+    }
+
+    @Test
+    @Order(4)
+    void readsShouldFallBackToThePrimaryOnceTheReplicaIsDown() {
+        replicaContainer.stop();
+
+        await().atMost(TIMEOUT).until(() -> replicaDataSource.availableReplicas() == 0);
+        assertThat(applicationService.findById(PRIMARY_ONLY_ID).getId()).isEqualTo(PRIMARY_ONLY_ID);
+    }
+
+    private static void migrate(PostgreSQLContainer<?> container) {
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .load()
+                .migrate();
+    }
+
+    private static JdbcTemplate jdbc(PostgreSQLContainer<?> container) {
+        return new JdbcTemplate(new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(),
+                container.getPassword()));
+    }
+
+    private static void seedApplication(JdbcTemplate jdbc, long id) {
+        jdbc.update("INSERT INTO users (id, first_name, last_name, email, password, role) VALUES (?, 'Routing', 'Test', ?, 'x', 'CANDIDATE')",
+                id, "routing-" + id + "@example.com");
+        jdbc.update("INSERT INTO candidates (id, date_of_birth) VALUES (?, DATE '1990-01-01')", id);
+        jdbc.update("INSERT INTO job_offers (id, title, description, location, employment_type) VALUES (?, 'Routing', 'Desc', 'Berlin', 'FULL_TIME')", id);
+        jdbc.update("INSERT INTO job_applications (id, candidate_id, job_offer_id) VALUES (?, ?, ?)", id, id, id);
+    }
+}
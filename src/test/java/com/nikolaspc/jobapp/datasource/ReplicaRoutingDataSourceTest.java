@@ -0,0 +1,148 @@
+package com.nikolaspc.jobapp.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaA;
+
+    @Mock
+    private DataSource replicaB;
+
+    @Mock
+    private Connection primaryConnection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replicaA);
+        replicas.put("replica-1", replicaB);
+        dataSource = new ReplicaRoutingDataSource(primary, replicas, MAX_LAG, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary until a replica passed its health check")
+    void getConnection_BeforeFirstHealthCheck_ShouldUsePrimary() throws SQLException {
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(replicaA, never()).getConnection();
+        assertThat(meterRegistry.get("datasource.replica.fallbacks").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should spread reads round-robin across healthy replicas")
+    void getConnection_HealthyReplicas_ShouldRoundRobin() throws SQLException {
+        Connection connectionA = healthy(replicaA, 0);
+        Connection connectionB = healthy(replicaB, 0);
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(connectionA);
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+        assertThat(dataSource.getConnection()).isSameAs(connectionA);
+        assertThat(meterRegistry.get("datasource.replica.available").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should skip a replica that is further behind than the max lag")
+    void getConnection_LaggingReplica_ShouldBeSkipped() throws SQLException {
+        healthy(replicaA, MAX_LAG.toMillis() + 1);
+        Connection connectionB = healthy(replicaB, 100);
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+        assertThat(dataSource.availableReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail over to the next replica and take the failed one out of rotation")
+    void getConnection_ReplicaRefuses_ShouldFailOver() throws SQLException {
+        healthy(replicaA, 0);
+        Connection connectionB = healthy(replicaB, 0);
+        dataSource.checkReplicas();
+        given(replicaA.getConnection()).willThrow(new SQLException("connection refused"));
+
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+        assertThat(dataSource.getConnection()).isSameAs(connectionB);
+        assertThat(dataSource.availableReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when every replica is down")
+    void getConnection_AllReplicasDown_ShouldUsePrimary() throws SQLException {
+        given(replicaA.getConnection()).willThrow(new SQLException("connection refused"));
+        given(replicaB.getConnection()).willThrow(new SQLException("connection refused"));
+        given(primary.getConnection()).willReturn(primaryConnection);
+        dataSource.checkReplicas();
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.availableReplicas()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should use the primary for reads pinned to it")
+    void onPrimary_ShouldBypassReplicas() throws SQLException {
+        healthy(replicaA, 0);
+        healthy(replicaB, 0);
+        dataSource.checkReplicas();
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        Connection connection = ReplicaRoutingDataSource.onPrimary(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("datasource.replica.fallbacks").counter().count()).isZero();
+    }
+
+    private static Connection healthy(DataSource replica, long lagMillis) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        given(replica.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong(1)).willReturn(lagMillis);
+        return connection;
+    }
+}
@@ -0,0 +1,60 @@
+package com.nikolaspc.jobapp.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MdcTaskDecorator Unit Tests")
+class MdcTaskDecoratorTest {
+
+    private final MdcTaskDecorator decorator = new MdcTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("Should run the task with the MDC of the submitting thread")
+    void decorate_ShouldCarryCorrelationIdToWorkerThread() throws InterruptedException {
+        MDC.put("correlationId", "abc-123");
+        AtomicReference<String> seen = new AtomicReference<>();
+        Runnable decorated = decorator.decorate(() -> seen.set(MDC.get("correlationId")));
+        // English: The request thread clears its MDC before the async task gets to run
+        MDC.clear();
+
+        Thread worker = new Thread(decorated);
+        worker.start();
+        worker.join();
+
+        assertThat(seen.get()).isEqualTo("abc-123");
+    }
+
+    @Test
+    @DisplayName("Should restore the worker thread's own MDC afterwards")
+    void decorate_ShouldNotLeakContextIntoNextTask() {
+        MDC.put("correlationId", "request-1");
+        Runnable decorated = decorator.decorate(() -> assertThat(MDC.get("correlationId")).isEqualTo("request-1"));
+        MDC.put("correlationId", "worker");
+
+        decorated.run();
+
+        assertThat(MDC.get("correlationId")).isEqualTo("worker");
+    }
+
+    @Test
+    @DisplayName("Should run tasks submitted without MDC with an empty one")
+    void decorate_NoContext_ShouldClearWorkerMdc() {
+        Runnable decorated = decorator.decorate(() -> assertThat(MDC.get("correlationId")).isNull());
+        MDC.put("correlationId", "stale");
+
+        decorated.run();
+
+        assertThat(MDC.get("correlationId")).isEqualTo("stale");
+    }
+}
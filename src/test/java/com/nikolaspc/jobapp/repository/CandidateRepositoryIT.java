@@ -3,19 +3,25 @@ package com.nikolaspc.jobapp.repository;
 import com.nikolaspc.jobapp.domain.Candidate;
 import com.nikolaspc.jobapp.domain.User;
 import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.dto.CandidateDTO;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @ActiveProfiles("test")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class CandidateRepositoryIT {
@@ -26,6 +32,9 @@ class CandidateRepositoryIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User savedUser;
 
     @BeforeEach
@@ -75,4 +84,33 @@ class CandidateRepositoryIT {
 
         assertThat(candidateRepository.findById(savedUser.getId())).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldLoadCandidatePageWithUserDataInSingleQuery() {
+        for (int i = 0; i < 10; i++) {
+            User user = userRepository.save(User.builder()
+                    .firstName("Page").lastName("User" + i)
+                    .email("page" + i + "@example.com").password("password")
+                    .role(UserRole.CANDIDATE).build());
+            candidateRepository.save(Candidate.builder()
+                    .user(user).dateOfBirth(LocalDate.of(1990, 1, 1)).isNewCandidate(true).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CandidateDTO> firstPage = candidateRepository.findPage(Limit.of(6));
+        CandidateDTO last = firstPage.get(firstPage.size() - 1);
+        List<CandidateDTO> secondPage = candidateRepository.findPageAfter(last.getCreatedAt(), last.getId(), Limit.of(6));
+
+        // English: One statement per page regardless of page size, no lazy User loads
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(firstPage).hasSize(6).allSatisfy(dto -> assertThat(dto.getEmail()).startsWith("page"));
+        assertThat(secondPage).hasSize(4)
+                .extracting(CandidateDTO::getId)
+                .doesNotContainAnyElementsOf(firstPage.stream().map(CandidateDTO::getId).toList());
+    }
+}
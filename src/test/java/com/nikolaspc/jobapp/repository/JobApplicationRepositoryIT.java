@@ -0,0 +1,253 @@
+package com.nikolaspc.jobapp.repository;
+
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+import com.nikolaspc.jobapp.domain.Candidate;
+import com.nikolaspc.jobapp.domain.JobApplication;
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.dto.JobApplicationExportRow;
+import com.nikolaspc.jobapp.dto.JobApplicationFilter;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobApplicationRepositoryIT {
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private JobOffer offer;
+    private List<Candidate> candidates;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // English: Joins the (rolled back) test transaction, or commits for tests that run without one
+        transactionTemplate.executeWithoutResult(status -> insertApplications());
+    }
+
+    private void insertApplications() {
+        applicationRepository.deleteAll();
+
+        offer = jobOfferRepository.save(JobOffer.builder()
+                .title("Backend Developer")
+                .description("Java / Spring Boot")
+                .location("Berlin")
+                .employmentType("FULL_TIME")
+                .build());
+
+        candidates = IntStream.range(0, 5)
+                .mapToObj(i -> {
+                    User user = userRepository.save(User.builder()
+                            .firstName("Candidate").lastName(String.valueOf(i))
+                            .email("keyset" + i + "@example.com").password("password")
+                            .role(UserRole.CANDIDATE).build());
+                    return candidateRepository.save(Candidate.builder()
+                            .user(user).dateOfBirth(LocalDate.of(1990, 1, 1)).isNewCandidate(true).build());
+                })
+                .toList();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            applicationRepository.save(JobApplication.builder()
+                    .candidate(candidates.get(i))
+                    .jobOffer(offer)
+                    .status(i % 2 == 0 ? ApplicationStatus.PENDING : ApplicationStatus.REJECTED)
+                    .build());
+        }
+        applicationRepository.flush();
+    }
+
+    @Test
+    void shouldWalkFilteredApplicationsWithKeysetPages() {
+        JobApplicationFilter filter = new JobApplicationFilter(null, offer.getId(), ApplicationStatus.PENDING, null, null);
+
+        List<Long> seen = new ArrayList<>();
+        KeysetCursor cursor = null;
+        do {
+            Specification<JobApplication> spec = JobApplicationSpecifications.matching(filter);
+            if (cursor != null) {
+                spec = spec.and(JobApplicationSpecifications.after(cursor));
+            }
+            List<JobApplication> page = applicationRepository.findBy(spec, query -> query
+                    .sortBy(JobApplicationSpecifications.KEYSET_SORT)
+                    .limit(2)
+                    .all());
+            page.forEach(application -> seen.add(application.getId()));
+            JobApplication last = page.isEmpty() ? null : page.get(page.size() - 1);
+            cursor = page.size() < 2 ? null : new KeysetCursor(last.getAppliedAt(), last.getId());
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldStreamExportRowsMatchingTheListingFilters() {
+        JobApplicationFilter filter = new JobApplicationFilter(candidates.get(1).getId(), offer.getId(), null, null, null);
+
+        try (Stream<JobApplicationExportRow> rows =
+                     applicationRepository.streamForExport(JobApplicationSpecifications.matching(filter))) {
+            assertThat(rows.toList())
+                    .singleElement()
+                    .satisfies(row -> {
+                        assertThat(row.candidateId()).isEqualTo(candidates.get(1).getId());
+                        assertThat(row.jobOfferId()).isEqualTo(offer.getId());
+                        assertThat(row.status()).isEqualTo(ApplicationStatus.REJECTED);
+                    });
+        }
+    }
+
+    @Test
+    void shouldUpdateStatusOfExistingIdsInAnAllowedSourceStatusOnly() {
+        // English: Even indexes are PENDING, odd ones REJECTED (terminal)
+        List<Long> ids = applicationRepository.findAll().stream().map(JobApplication::getId).sorted().toList();
+
+        List<Long> updated = applicationRepository.updateStatusByIds(List.of(ids.get(0), ids.get(1), ids.get(2), -1L),
+                ApplicationStatus.sourcesOf(ApplicationStatus.REVIEWING), ApplicationStatus.REVIEWING);
+
+        assertThat(updated).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+        assertThat(applicationRepository.findExistingIds(List.of(ids.get(1), -1L))).containsExactly(ids.get(1));
+        // English: The JDBC update bypasses the persistence context, which still holds the old status
+        entityManager.clear();
+        assertThat(applicationRepository.findAll())
+                .filteredOn(application -> application.getStatus() == ApplicationStatus.REVIEWING)
+                .hasSize(2);
+    }
+
+    @Test
+    void shouldUpdateStatusOfJobOfferInBoundedChunks() {
+        List<Long> first = applicationRepository.updateStatusByJobOffer(
+                offer.getId(), ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 2);
+        List<Long> second = applicationRepository.updateStatusByJobOffer(
+                offer.getId(), ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 2);
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1).doesNotContainAnyElementsOf(first);
+        entityManager.clear();
+        assertThat(applicationRepository.findAll())
+                .allMatch(application -> application.getStatus() == ApplicationStatus.REJECTED);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldSkipApplicationsMovedByAnotherTransactionWhileWaitingForTheirLock() throws Exception {
+        // English: Committed data, so two transactions can race on it
+        List<Long> pending = applicationRepository.findAll().stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.PENDING)
+                .map(JobApplication::getId)
+                .sorted()
+                .toList();
+        Long withdrawn = pending.get(0);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> withdrawal = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE job_applications SET status = ? WHERE id = ?",
+                        ApplicationStatus.WITHDRAWN.code(), withdrawn);
+                locked.countDown();
+                await(release);
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<List<Long>> bulk = executor.submit(() -> applicationRepository.updateStatusByJobOffer(
+                    offer.getId(), ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 10));
+            // English: Commit the withdrawal only once the bulk update is blocked on its row lock
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock' AND datname = current_database()",
+                    Integer.class) > 0);
+            release.countDown();
+            withdrawal.get(10, TimeUnit.SECONDS);
+
+            assertThat(bulk.get(10, TimeUnit.SECONDS)).containsExactlyElementsOf(pending.subList(1, pending.size()));
+            assertThat(jdbcTemplate.queryForObject("SELECT status FROM job_applications WHERE id = ?",
+                    Short.class, withdrawn)).isEqualTo(ApplicationStatus.WITHDRAWN.code());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            deleteCommittedData();
+        }
+    }
+
+    @Test
+    void shouldMatchOpenStatusFilterAgainstSmallintCodes() {
+        applicationRepository.findAll().stream()
+                .filter(application -> application.getStatus() == ApplicationStatus.PENDING)
+                .findFirst()
+                .ifPresent(application -> application.setStatus(ApplicationStatus.OFFERED));
+        applicationRepository.flush();
+        entityManager.clear();
+
+        JobApplicationFilter filter = new JobApplicationFilter(null, offer.getId(), ApplicationStatus.OFFERED, null, null);
+
+        assertThat(applicationRepository.findAll(JobApplicationSpecifications.matching(filter)))
+                .singleElement()
+                .extracting(JobApplication::getStatus)
+                .isEqualTo(ApplicationStatus.OFFERED);
+    }
+
+    private void deleteCommittedData() {
+        List<Long> userIds = candidates.stream().map(Candidate::getId).toList();
+        jdbcTemplate.update("DELETE FROM job_applications WHERE job_offer_id = ?", offer.getId());
+        candidateRepository.deleteAllById(userIds);
+        userRepository.deleteAllById(userIds);
+        jobOfferRepository.deleteById(offer.getId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.nikolaspc.jobapp.repository;
+
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetCount;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetRow;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferSearchRow;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JobOfferRepositoryIT {
+
+    private static final int BURST = 500;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldBatchInsertsAndAllocateIdsInBlocks() {
+        List<JobOffer> offers = IntStream.range(0, BURST)
+                .mapToObj(i -> JobOffer.builder()
+                        .title("Backend Developer " + i)
+                        .description("Java / Spring Boot")
+                        .location("Berlin")
+                        .employmentType("FULL_TIME")
+                        .build())
+                .toList();
+
+        jobOfferRepository.saveAll(offers);
+        jobOfferRepository.flush();
+
+        // English: 500 rows -> 10 sequence calls + 10 JDBC batches instead of 500 round trips
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * BURST / 50);
+        assertThat(offers).allSatisfy(offer -> assertThat(offer.getId()).isNotNull());
+    }
+
+    @Test
+    void shouldWalkAllActiveOffersWithKeysetPages() {
+        jobOfferRepository.deleteAll();
+        List<JobOffer> offers = IntStream.range(0, 7)
+                .mapToObj(i -> JobOffer.builder()
+                        .title("Offer " + i)
+                        .description("Desc")
+                        .location("Hamburg")
+                        .employmentType("PART_TIME")
+                        .active(i != 3)
+                        .build())
+                .toList();
+        jobOfferRepository.saveAllAndFlush(offers);
+
+        List<Long> seen = new ArrayList<>();
+        List<JobOffer> page = jobOfferRepository.findByActiveTrueOrderByCreatedAtDescIdDesc(Limit.of(2));
+        while (!page.isEmpty()) {
+            page.forEach(offer -> seen.add(offer.getId()));
+            JobOffer last = page.get(page.size() - 1);
+            page = jobOfferRepository.findActiveAfter(last.getCreatedAt(), last.getId(), Limit.of(2));
+        }
+
+        assertThat(seen).hasSize(6).doesNotHaveDuplicates()
+                .doesNotContain(offers.get(3).getId());
+    }
+
+    @Test
+    void shouldRankSearchResultsAndPageThroughThem() {
+        jobOfferRepository.deleteAll();
+        jobOfferRepository.saveAllAndFlush(List.of(
+                offer("Java Backend Developer", "Spring Boot and Java microservices", "Berlin", true),
+                offer("Frontend Developer", "React, some Java knowledge is a plus", "Munich", true),
+                offer("Java Architect", "Java, Java and more Java", "Berlin", false),
+                offer("Data Engineer", "Python and Spark", "Hamburg", true),
+                offer("Fullstack Developer", "Angular and Java", "Berlin", true)));
+
+        List<JobOfferSearchRow> firstPage = jobOfferRepository.search("java", 2);
+        JobOfferSearchRow last = firstPage.get(1);
+        List<JobOfferSearchRow> secondPage = jobOfferRepository.searchAfter("java", last.getRank(), last.getId(), 2);
+
+        // English: Title matches (weight A) rank first; the inactive offer is never returned
+        assertThat(firstPage.get(0).getTitle()).isEqualTo("Java Backend Developer");
+        assertThat(firstPage.get(0).getRank()).isGreaterThanOrEqualTo(last.getRank());
+        assertThat(secondPage).extracting(JobOfferSearchRow::getTitle).hasSize(1)
+                .doesNotContain("Java Architect")
+                .doesNotContainAnyElementsOf(firstPage.stream().map(JobOfferSearchRow::getTitle).toList());
+        assertThat(jobOfferRepository.search("berlin -angular", 10))
+                .extracting(JobOfferSearchRow::getTitle).containsExactly("Java Backend Developer");
+    }
+
+    @Test
+    void shouldRankEveryMatchAndPageThroughThemInOneOrder() {
+        jobOfferRepository.deleteAll();
+        // English: Weak description matches first, so an unordered scan would collect them before the best match
+        List<JobOffer> offers = new ArrayList<>(IntStream.range(0, 9)
+                .mapToObj(i -> offer("Role " + i, "Some kotlin " + "filler ".repeat(i), "Berlin", true))
+                .toList());
+        offers.add(offer("Kotlin Developer", "Kotlin", "Berlin", true));
+        jobOfferRepository.saveAllAndFlush(offers);
+
+        List<JobOfferSearchRow> seen = new ArrayList<>();
+        List<JobOfferSearchRow> page = jobOfferRepository.search("kotlin", 3);
+        while (!page.isEmpty()) {
+            seen.addAll(page);
+            JobOfferSearchRow last = page.get(page.size() - 1);
+            page = jobOfferRepository.searchAfter("kotlin", last.getRank(), last.getId(), 3);
+        }
+
+        assertThat(seen.get(0).getTitle()).isEqualTo("Kotlin Developer");
+        assertThat(seen).extracting(JobOfferSearchRow::getId).hasSize(10).doesNotHaveDuplicates();
+        assertThat(seen).extracting(JobOfferSearchRow::getRank).isSortedAccordingTo((a, b) -> Float.compare(b, a));
+    }
+
+    @Test
+    void shouldCountActiveOffersPerFacet() {
+        jobOfferRepository.deleteAll();
+        jobOfferRepository.saveAllAndFlush(List.of(
+                offer("A", "Desc", "Berlin", true),
+                offer("B", "Desc", "Berlin", true),
+                offer("C", "Desc", "Munich", true),
+                offer("D", "Desc", "Munich", false)));
+
+        assertThat(jobOfferRepository.countActiveByFacets())
+                .extracting(JobOfferFacetCount::getLocation, JobOfferFacetCount::getEmploymentType, JobOfferFacetCount::getTotal)
+                .containsExactlyInAnyOrder(tuple("Berlin", "FULL_TIME", 2L), tuple("Munich", "FULL_TIME", 1L));
+        assertThat(jobOfferRepository.findActiveFacetRows())
+                .extracting(JobOfferFacetRow::getLocation).containsExactlyInAnyOrder("Berlin", "Berlin", "Munich");
+    }
+
+    private static JobOffer offer(String title, String description, String location, boolean active) {
+        return JobOffer.builder()
+                .title(title)
+                .description(description)
+                .location(location)
+                .employmentType("FULL_TIME")
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.nikolaspc.jobapp.security;
+
+import com.nikolaspc.jobapp.audit.AuditEvent;
+import com.nikolaspc.jobapp.audit.AuditLog;
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
+import com.nikolaspc.jobapp.dto.AuthRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateResult;
+import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditAspect Unit Tests")
+class AuditAspectTest {
+
+    @Mock
+    private AuditLog auditLog;
+
+    @Mock
+    private JoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @InjectMocks
+    private AuditAspect auditAspect;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should record the login email as actor and never the password")
+    void logSecurityAction_ShouldNotLeakCredentials() {
+        AuthRequest request = new AuthRequest();
+        request.setEmail(" Anna@Example.com ");
+        request.setPassword("s3cret-Passw0rd");
+        givenJoinPoint("login", request);
+
+        auditAspect.logSecurityAction(joinPoint);
+
+        AuditEvent event = recordedEvent();
+        assertThat(event.action()).isEqualTo("LOGIN");
+        assertThat(event.actor()).isEqualTo("anna@example.com");
+        assertThat(event.outcome()).isEqualTo(AuditEvent.Outcome.SUCCESS);
+        assertThat(event.toString()).doesNotContain("s3cret-Passw0rd");
+    }
+
+    @Test
+    @DisplayName("Should record a candidate deletion by the authenticated user")
+    void logCandidateAction_ShouldUseAuthenticatedActor() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin@example.com", null, List.of()));
+        givenJoinPoint("delete", 42L);
+
+        auditAspect.logCandidateAction(joinPoint);
+
+        AuditEvent event = recordedEvent();
+        assertThat(event.action()).isEqualTo("CANDIDATE_DELETE");
+        assertThat(event.actor()).isEqualTo("admin@example.com");
+        assertThat(event.details()).containsEntry("candidateId", "42");
+    }
+
+    @Test
+    @DisplayName("Should record a failed status change with its reason")
+    void logFailedApplicationStatusChange_ShouldRecordReason() {
+        when(joinPoint.getArgs()).thenReturn(new Object[]{7L, "ACCEPTED"});
+
+        auditAspect.logFailedApplicationStatusChange(joinPoint, new ResourceNotFoundException("Job Application", 7L));
+
+        AuditEvent event = recordedEvent();
+        assertThat(event.action()).isEqualTo("APPLICATION_STATUS_CHANGE");
+        assertThat(event.actor()).isEqualTo("unknown");
+        assertThat(event.outcome()).isEqualTo(AuditEvent.Outcome.FAILURE);
+        assertThat(event.details())
+                .containsEntry("applicationId", "7")
+                .containsEntry("status", "ACCEPTED")
+                .containsEntry("reason", "ResourceNotFoundException");
+    }
+
+    @Test
+    @DisplayName("Should list the ids a bulk status change moved, not the ones it skipped")
+    void logBulkApplicationStatusChange_ShouldRecordUpdatedIds() {
+        when(joinPoint.getArgs()).thenReturn(new Object[]{
+                new BulkStatusUpdateRequest(List.of(3L, 5L, 8L, 13L), null, null, ApplicationStatus.REJECTED)});
+        BulkStatusUpdateResult result = new BulkStatusUpdateResult(ApplicationStatus.REJECTED, 2, List.of(
+                new BulkStatusUpdateResult.Item(3L, BulkStatusUpdateResult.Outcome.UPDATED),
+                new BulkStatusUpdateResult.Item(5L, BulkStatusUpdateResult.Outcome.NOT_FOUND),
+                new BulkStatusUpdateResult.Item(8L, BulkStatusUpdateResult.Outcome.UPDATED),
+                new BulkStatusUpdateResult.Item(13L, BulkStatusUpdateResult.Outcome.INVALID_TRANSITION)), false);
+
+        auditAspect.logBulkApplicationStatusChange(joinPoint, result);
+
+        AuditEvent event = recordedEvent();
+        assertThat(event.action()).isEqualTo("APPLICATION_STATUS_BULK_CHANGE");
+        assertThat(event.details())
+                .containsEntry("status", "REJECTED")
+                .containsEntry("requestedIds", "4")
+                .containsEntry("updated", "2")
+                .containsEntry("applicationIds", "3,8");
+    }
+
+    private void givenJoinPoint(String method, Object... args) {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn(method);
+        when(joinPoint.getArgs()).thenReturn(args);
+    }
+
+    private AuditEvent recordedEvent() {
+        ArgumentCaptor<AuditEvent> captor = ArgumentCaptor.forClass(AuditEvent.class);
+        verify(auditLog).record(captor.capture());
+        return captor.getValue();
+    }
+}
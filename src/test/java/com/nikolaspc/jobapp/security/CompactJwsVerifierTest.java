@@ -0,0 +1,108 @@
+package com.nikolaspc.jobapp.security;
+
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.exception.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactJwsVerifier Unit Tests")
+class CompactJwsVerifierTest {
+
+    private static final String SECRET = "UnitTestingSecretKeyForHS512ComplianceMustBeAtLeast64CharactersLong";
+
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    private final CompactJwsVerifier verifier = new CompactJwsVerifier(key);
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider(new VerifiedTokenCache(0, new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationInSeconds", 3600L);
+        provider.init();
+    }
+
+    @Test
+    @DisplayName("Should produce the same principal as jjwt for our own tokens")
+    void verify_WithIssuedToken_ShouldMatchJjwt() {
+        String token = provider.generateToken(User.builder()
+                .id(7L).email("anna.schmidt@example.com").role(UserRole.CANDIDATE).build());
+
+        JwtPrincipal fast = verifier.verify(token, Instant.now());
+
+        assertThat(fast).isEqualTo(provider.resolvePrincipal(token));
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature")
+    void verify_WithTamperedSignature_ShouldThrowException() {
+        String token = provider.generateToken(User.builder()
+                .id(7L).email("anna@example.com").role(UserRole.ADMIN).build());
+        int pos = token.length() - 10;
+        String tampered = token.substring(0, pos) + (token.charAt(pos) == 'A' ? 'B' : 'A') + token.substring(pos + 1);
+
+        assertThatThrownBy(() -> verifier.verify(tampered, Instant.now()))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("signature");
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void verify_WithExpiredToken_ShouldThrowException() {
+        String token = provider.generateToken(User.builder()
+                .id(7L).email("anna@example.com").role(UserRole.ADMIN).build());
+
+        assertThatThrownBy(() -> verifier.verify(token, Instant.now().plusSeconds(7200)))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("Expired");
+    }
+
+    @Test
+    @DisplayName("Should fall back to jjwt for claims it does not know")
+    void verify_WithUnknownClaim_ShouldReturnNull() {
+        String token = Jwts.builder()
+                .subject("anna@example.com")
+                .claim("role", "ADMIN")
+                .claim("scope", "everything")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+
+        assertThat(verifier.verify(token, Instant.now())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fall back to jjwt for escaped strings")
+    void verify_WithEscapedSubject_ShouldReturnNull() {
+        String token = Jwts.builder()
+                .subject("anna\"quoted\"@example.com")
+                .claim("role", "ADMIN")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+
+        assertThat(verifier.verify(token, Instant.now())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fall back to jjwt for malformed input")
+    void verify_WithGarbage_ShouldReturnNull() {
+        assertThat(verifier.verify("not-a-token", Instant.now())).isNull();
+        assertThat(verifier.verify("eyJhbGciOiJIUzUxMiJ9.e30", Instant.now())).isNull();
+    }
+}
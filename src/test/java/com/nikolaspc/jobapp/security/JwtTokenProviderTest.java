@@ -0,0 +1,86 @@
+package com.nikolaspc.jobapp.security;
+
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.exception.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtTokenProvider Unit Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "UnitTestingSecretKeyForHS512ComplianceMustBeAtLeast64CharactersLong";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider provider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new JwtTokenProvider(new VerifiedTokenCache(100, meterRegistry));
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationInSeconds", 3600L);
+        provider.init();
+
+        user = User.builder()
+                .id(42L)
+                .email("max@example.com")
+                .role(UserRole.RECRUITER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should extract all claims from a generated token")
+    void resolvePrincipal_ShouldReturnAllClaims() {
+        String token = provider.generateToken(user);
+
+        JwtPrincipal principal = provider.resolvePrincipal(token);
+
+        assertThat(principal.userId()).isEqualTo(42L);
+        assertThat(principal.email()).isEqualTo("max@example.com");
+        assertThat(principal.role()).isEqualTo(UserRole.RECRUITER);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated token from the verified cache")
+    void resolvePrincipal_WhenCalledTwice_ShouldHitCache() {
+        String token = provider.generateToken(user);
+
+        JwtPrincipal first = provider.resolvePrincipal(token);
+        JwtPrincipal second = provider.resolvePrincipal(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt.verified").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature")
+    void resolvePrincipal_WithTamperedSignature_ShouldThrowException() {
+        String token = provider.generateToken(user);
+        int pos = token.length() - 10;
+        char replacement = token.charAt(pos) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, pos) + replacement + token.substring(pos + 1);
+
+        assertThatThrownBy(() -> provider.resolvePrincipal(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void resolvePrincipal_WithExpiredToken_ShouldThrowException() {
+        ReflectionTestUtils.setField(provider, "jwtExpirationInSeconds", -10L);
+        String token = provider.generateToken(user);
+
+        assertThatThrownBy(() -> provider.resolvePrincipal(token))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("Expired");
+    }
+}
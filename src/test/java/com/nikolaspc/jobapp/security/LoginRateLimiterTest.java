@@ -0,0 +1,108 @@
+package com.nikolaspc.jobapp.security;
+
+import com.nikolaspc.jobapp.audit.AuditEvent;
+import com.nikolaspc.jobapp.audit.AuditLog;
+import com.nikolaspc.jobapp.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("LoginRateLimiter Unit Tests")
+class LoginRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final AuditLog auditLog = mock(AuditLog.class);
+
+    private final LoginRateLimiter limiter = new LoginRateLimiter(
+            new LoginRateLimiter.Limit(10, Duration.ofMinutes(1)),
+            new LoginRateLimiter.Limit(3, Duration.ofMinutes(1)),
+            100, meterRegistry, clock::get, auditLog);
+
+    @Test
+    @DisplayName("Should allow a burst and then reject the same email")
+    void checkLogin_WhenEmailBurstExceeded_ShouldThrowTooManyRequests() {
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("10.0.0." + i, "anna@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.checkLogin("10.0.0.9", " Anna@Example.com "))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(ex -> assertThat(((TooManyRequestsException) ex).getRetryAfterSeconds()).isEqualTo(21));
+        assertThat(meterRegistry.get("auth.login.throttled").tag("key", "email").counter().count()).isEqualTo(1.0);
+        verify(auditLog).record(argThat(event -> event.action().equals("LOGIN_THROTTLED")
+                && event.actor().equals("anna@example.com")
+                && event.outcome() == AuditEvent.Outcome.REJECTED
+                && event.details().get("key").equals("EMAIL")));
+    }
+
+    @Test
+    @DisplayName("Should reject an IP spraying many emails")
+    void checkLogin_WhenIpBurstExceeded_ShouldThrowTooManyRequests() {
+        for (int i = 0; i < 10; i++) {
+            limiter.checkLogin("10.0.0.1", "user" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.checkLogin("10.0.0.1", "other@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.checkLogin("10.0.0.2", "other@example.com")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("auth.login.throttled").tag("key", "ip").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should refill attempts over time")
+    void checkLogin_AfterRefillInterval_ShouldAllowAgain() {
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("10.0.0.1", "anna@example.com");
+        }
+        assertThatThrownBy(() -> limiter.checkLogin("10.0.0.1", "anna@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        clock.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        assertThatCode(() -> limiter.checkLogin("10.0.0.1", "anna@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should keep tracking bounded when many keys are seen")
+    void checkLogin_WithManyDistinctKeys_ShouldNotThrow() {
+        for (int i = 0; i < 1_000; i++) {
+            clock.addAndGet(Duration.ofSeconds(6).toNanos());
+            limiter.checkLogin("10.0." + (i / 256) + "." + (i % 256), "user" + i + "@example.com");
+        }
+
+        assertThat(meterRegistry.find("auth.login.throttled").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should throttle new keys rather than evict buckets that are still limiting")
+    void checkLogin_WhenNoBucketIsIdle_ShouldThrottleNewKeys() {
+        for (int i = 0; i < 3; i++) {
+            limiter.checkLogin("10.0.0." + i, "anna@example.com");
+        }
+        for (int i = 0; i < 99; i++) {
+            limiter.checkLogin("10.1.0." + (i / 10), "user" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.checkLogin("10.2.0.1", "new@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatThrownBy(() -> limiter.checkLogin("10.2.0.2", "anna@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("auth.login.throttled").tag("key", "email").counter().count()).isEqualTo(2.0);
+
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        assertThatCode(() -> limiter.checkLogin("10.2.0.1", "new@example.com")).doesNotThrowAnyException();
+    }
+}
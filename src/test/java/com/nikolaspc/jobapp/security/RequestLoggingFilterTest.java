@@ -0,0 +1,126 @@
+package com.nikolaspc.jobapp.security;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestLoggingFilter Unit Tests")
+class RequestLoggingFilterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.INFO);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("Should log sampled requests and echo the correlation id")
+    void doFilter_Sampled_ShouldLogBothLines() throws Exception {
+        RequestLoggingFilter filter = filter(1.0, List.of(), Duration.ofSeconds(1));
+        MockHttpServletRequest request = request("/api/jobs");
+        request.addHeader("X-Correlation-ID", "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {});
+
+        assertThat(response.getHeader("X-Correlation-ID")).isEqualTo("abc-123");
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.INFO, Level.INFO);
+        assertThat(appender.list.get(0).getMDCPropertyMap()).containsEntry("correlationId", "abc-123");
+    }
+
+    @Test
+    @DisplayName("Should skip requests on paths sampled at zero")
+    void doFilter_PathNotSampled_ShouldLogNothing() throws Exception {
+        RequestLoggingFilter filter = filter(1.0, List.of("/actuator/health/**=0"), Duration.ofSeconds(1));
+
+        filter.doFilter(request("/actuator/health"), new MockHttpServletResponse(), (req, res) -> {});
+        filter.doFilter(request("/actuator/health/liveness"), new MockHttpServletResponse(), (req, res) -> {});
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should always log failed requests")
+    void doFilter_ServerError_ShouldLogWarnEvenIfNotSampled() throws Exception {
+        RequestLoggingFilter filter = filter(0.0, List.of(), Duration.ofSeconds(1));
+
+        filter.doFilter(request("/api/jobs"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(503));
+        FilterChain failing = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+        assertThatThrownBy(() -> filter.doFilter(request("/api/jobs"), new MockHttpServletResponse(), failing))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN, Level.WARN);
+        assertThat(appender.list.get(1).getFormattedMessage()).contains("Failed with exception");
+    }
+
+    @Test
+    @DisplayName("Should always log slow requests")
+    void doFilter_SlowRequest_ShouldLogWarnEvenIfNotSampled() throws Exception {
+        RequestLoggingFilter filter = filter(0.0, List.of(), Duration.ZERO);
+
+        filter.doFilter(request("/api/jobs"), new MockHttpServletResponse(), (req, res) -> {});
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage()).contains("Path: /api/jobs"));
+    }
+
+    @Test
+    @DisplayName("Should generate version 4 style correlation ids")
+    void newCorrelationId_ShouldBeRandomUuid() {
+        UUID id = UUID.fromString(RequestLoggingFilter.newCorrelationId());
+
+        assertThat(id.version()).isEqualTo(4);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(RequestLoggingFilter.newCorrelationId()).isNotEqualTo(id.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject sample rates outside [0, 1] and malformed path rates")
+    void constructor_InvalidRates_ShouldThrow() {
+        assertThatThrownBy(() -> filter(1.5, List.of(), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> filter(1.0, List.of("/api/**"), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RequestLoggingFilter filter(double sampleRate, List<String> pathSampleRates, Duration slowThreshold) {
+        return new RequestLoggingFilter(sampleRate, pathSampleRates, slowThreshold);
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
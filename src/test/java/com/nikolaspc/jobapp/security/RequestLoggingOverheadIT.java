@@ -0,0 +1,145 @@
+package com.nikolaspc.jobapp.security;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of the logging cost per request: RequestLoggingFilter around an empty filter chain,
+ * called from several threads at once, with the log lines encoded by the production pattern and
+ * written to a discarding stream (so only logging itself is measured, not the terminal).
+ */
+@Slf4j
+class RequestLoggingOverheadIT {
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 20_000;
+    private static final String LOG_PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %X{correlationId} %-5level %logger{36} - %msg%n";
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final Logger logger = context.getLogger(RequestLoggingFilter.class);
+    private Level previousLevel;
+    private boolean previousAdditive;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logger.getLevel();
+        previousAdditive = logger.isAdditive();
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAndStopAllAppenders();
+        logger.setLevel(previousLevel);
+        logger.setAdditive(previousAdditive);
+    }
+
+    @Test
+    void asyncSampledLoggingShouldCostLessPerRequestThanSynchronousLogging() throws Exception {
+        double synchronousAll = nanosPerRequest(discardingAppender(), 1.0);
+        double asyncAll = nanosPerRequest(async(discardingAppender()), 1.0);
+        double asyncSampled = nanosPerRequest(async(discardingAppender()), 0.1);
+
+        String result = String.format("Sync, every request: %.0f ns | Async, every request: %.0f ns"
+                + " | Async, 10%% sampled: %.0f ns", synchronousAll, asyncAll, asyncSampled);
+        log.info("Request logging overhead | {}", result);
+        assertThat(asyncSampled).as(result).isLessThan(synchronousAll);
+    }
+
+    @Test
+    void threadLocalCorrelationIdsShouldBeCheaperThanSecureRandomOnes() throws Exception {
+        double secureRandom = nanosPerCall(() -> UUID.randomUUID().toString());
+        double threadLocal = nanosPerCall(RequestLoggingFilter::newCorrelationId);
+
+        String result = String.format("UUID.randomUUID: %.0f ns | ThreadLocalRandom: %.0f ns", secureRandom, threadLocal);
+        log.info("Correlation id | {}", result);
+        assertThat(threadLocal).as(result).isLessThan(secureRandom);
+    }
+
+    private double nanosPerRequest(Appender<ILoggingEvent> appender, double sampleRate) throws Exception {
+        logger.detachAndStopAllAppenders();
+        logger.addAppender(appender);
+        RequestLoggingFilter filter = new RequestLoggingFilter(sampleRate, List.of(), Duration.ofMinutes(1));
+        return nanosPerCall(() -> {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+            request.setServletPath("/api/jobs");
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {});
+            return null;
+        });
+    }
+
+    private static double nanosPerCall(Callable<?> call) throws Exception {
+        run(call);
+        return (double) run(call) * THREADS / ((long) THREADS * REQUESTS_PER_THREAD);
+    }
+
+    private static long run(Callable<?> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<Object>> futures = executor.invokeAll(Collections.nCopies(THREADS, (Callable<Object>) () -> {
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    call.call();
+                }
+                return null;
+            }));
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Appender<ILoggingEvent> discardingAppender() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(LOG_PATTERN);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private AsyncAppender async(Appender<ILoggingEvent> delegate) {
+        // English: Same settings as AsyncConsole in logback-spring.xml
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+}
@@ -5,9 +5,11 @@ import com.nikolaspc.jobapp.domain.User;
 import com.nikolaspc.jobapp.dto.RegisterRequest;
 import com.nikolaspc.jobapp.repository.CandidateRepository;
 import com.nikolaspc.jobapp.repository.UserRepository;
+import com.nikolaspc.jobapp.service.cache.CacheNames;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,8 +31,43 @@ class AuthServiceTest { // <-- IMPORTANTE: Ya no extiende de AbstractTestContain
     @Autowired
     private CandidateRepository candidateRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Test
     void whenRegisterCandidate_thenUserAndCandidateShouldExistWithSameId() {
-        // Tu código original está perfecto...
+        RegisterRequest request = RegisterRequest.builder()
+                .firstName("Max")
+                .lastName("Mustermann")
+                .email("max.register@example.com")
+                .password("secret123")
+                .dateOfBirth(LocalDate.of(1995, 5, 15))
+                .build();
+
+        var response = authService.register(request);
+
+        User user = userRepository.findByEmail("max.register@example.com").orElseThrow();
+        Candidate candidate = candidateRepository.findById(user.getId()).orElseThrow();
+        assertEquals(user.getId(), response.getId());
+        assertEquals(user.getId(), candidate.getId());
+        // English: Hashing happens outside the write transaction but the stored value must still be a hash
+        assertNotEquals("secret123", user.getPassword());
+    }
+
+    @Test
+    void whenUserLookedUpFromToken_thenProfileIsCachedByEmail() {
+        RegisterRequest request = RegisterRequest.builder()
+                .firstName("Anna")
+                .lastName("Schmidt")
+                .email("anna.cache@example.com")
+                .password("secret123")
+                .build();
+        var response = authService.register(request);
+
+        var user = authService.getUserFromToken(response.getToken());
+
+        assertTrue(user.isPresent());
+        assertEquals(user.get(), cacheManager.getCache(CacheNames.USERS_BY_EMAIL).get("anna.cache@example.com").get());
+        assertEquals(user, authService.getUserFromToken(response.getToken()));
     }
-}
\ No newline at end of file
+}
@@ -7,18 +7,26 @@ import com.nikolaspc.jobapp.exception.BadRequestException;
 import com.nikolaspc.jobapp.mapper.CandidateMapper;
 import com.nikolaspc.jobapp.repository.CandidateRepository;
 import com.nikolaspc.jobapp.repository.UserRepository;
+import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
 import com.nikolaspc.jobapp.service.impl.CandidateServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CandidateService Unit Tests")
@@ -33,6 +41,9 @@ class CandidateServiceImplTest {
     @Mock
     private CandidateMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CandidateServiceImpl service;
 
@@ -74,6 +85,32 @@ class CandidateServiceImplTest {
                 .hasMessageContaining("Candidates must be registered via AuthService");
     }
 
+    @Test
+    @DisplayName("Should delete the identity and evict its cached lookups")
+    void delete_ShouldPublishUserChangedEvent() {
+        given(userRepository.findEmailById(1L)).willReturn(Optional.of("max@example.com"));
+
+        service.delete(1L);
+
+        // English: Profile first, through JPA, so its second-level cache entry is dropped too
+        InOrder inOrder = inOrder(repository, userRepository);
+        inOrder.verify(repository).deleteById(1L);
+        inOrder.verify(userRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(UserChangedEvent.of("max@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should throw when deleting an unknown candidate")
+    void delete_WhenNotExists_ShouldThrowException() {
+        given(userRepository.findEmailById(99L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.delete(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(userRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     // English: Note - If you have update tests, remember that candidate.getUser().getEmail()
     // is the way to access data now.
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.nikolaspc.jobapp.service;
+
+import com.nikolaspc.jobapp.domain.Candidate;
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.domain.UserRole;
+import com.nikolaspc.jobapp.dto.JobApplicationDTO;
+import com.nikolaspc.jobapp.repository.CandidateRepository;
+import com.nikolaspc.jobapp.repository.JobApplicationRepository;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of JobApplicationService.create: JDBC statements per call with the second-level cache
+ * cold (evicted before every call, the cost of every create before the cache) and warm.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobApplicationCreateLoadIT {
+
+    private static final int APPLICATIONS = 200;
+
+    @Autowired
+    private JobApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobOfferRepository jobOfferRepository;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SessionFactory sessionFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<JobOffer> offers;
+    private List<Candidate> candidates;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        offers = jobOfferRepository.saveAll(IntStream.range(0, 2)
+                .mapToObj(i -> JobOffer.builder()
+                        .title("Load test offer " + i).description("Desc")
+                        .location("Berlin").employmentType("FULL_TIME").build())
+                .toList());
+        candidates = transactionTemplate.execute(status -> IntStream.range(0, APPLICATIONS)
+                .mapToObj(i -> {
+                    User user = userRepository.save(User.builder()
+                            .firstName("Load").lastName(String.valueOf(i))
+                            .email("load-" + run + "-" + i + "@example.com").password("password")
+                            .role(UserRole.CANDIDATE).build());
+                    return candidateRepository.save(Candidate.builder()
+                            .user(user).dateOfBirth(LocalDate.of(1990, 1, 1)).isNewCandidate(true).build());
+                })
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // English: Deleting the users cascades to their candidate profiles and applications (V1 foreign keys)
+        userRepository.deleteAllById(candidates.stream().map(Candidate::getId).toList());
+        jobOfferRepository.deleteAll(offers);
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void secondLevelCacheShouldTakeLookupsOutOfEveryCreate() {
+        Statistics statistics = sessionFactory.getStatistics();
+
+        statistics.clear();
+        for (Candidate candidate : candidates) {
+            sessionFactory.getCache().evictAllRegions();
+            create(candidate, offers.get(0));
+        }
+        long coldStatements = statistics.getPrepareStatementCount();
+
+        // English: Steady state: every candidate and offer has been read once since it last changed
+        candidateRepository.findAllById(candidates.stream().map(Candidate::getId).toList());
+        jobOfferRepository.findAllById(offers.stream().map(JobOffer::getId).toList());
+        statistics.clear();
+        for (Candidate candidate : candidates) {
+            create(candidate, offers.get(1));
+        }
+        long warmStatements = statistics.getPrepareStatementCount();
+
+        // English: Cold: SELECT candidate + SELECT offer + INSERT (+ one nextval per 50 ids).
+        // Warm: INSERT only, both lookups are second-level cache hits.
+        assertThat(coldStatements).isGreaterThanOrEqualTo(3L * APPLICATIONS);
+        assertThat(warmStatements).isLessThanOrEqualTo(APPLICATIONS + APPLICATIONS / 50 + 1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(2L * APPLICATIONS);
+    }
+
+    private void create(Candidate candidate, JobOffer offer) {
+        applicationService.create(JobApplicationDTO.builder()
+                .candidateId(candidate.getId())
+                .jobOfferId(offer.getId())
+                .build());
+    }
+}
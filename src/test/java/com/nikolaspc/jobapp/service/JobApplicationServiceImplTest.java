@@ -1,10 +1,19 @@
 package com.nikolaspc.jobapp.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nikolaspc.jobapp.domain.ApplicationStatus;
 import com.nikolaspc.jobapp.domain.Candidate;
 import com.nikolaspc.jobapp.domain.JobApplication;
 import com.nikolaspc.jobapp.domain.JobOffer;
 import com.nikolaspc.jobapp.domain.User;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateRequest;
+import com.nikolaspc.jobapp.dto.BulkStatusUpdateResult;
+import com.nikolaspc.jobapp.dto.CursorPage;
 import com.nikolaspc.jobapp.dto.JobApplicationDTO;
+import com.nikolaspc.jobapp.dto.JobApplicationExportRow;
+import com.nikolaspc.jobapp.dto.JobApplicationFilter;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
 import com.nikolaspc.jobapp.exception.BadRequestException;
 import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
 import com.nikolaspc.jobapp.mapper.JobApplicationMapper;
@@ -18,17 +27,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -51,6 +68,11 @@ class JobApplicationServiceImplTest {
     @Mock
     private JobApplicationMapper mapper;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
     @InjectMocks
     private JobApplicationServiceImpl service;
 
@@ -104,7 +126,7 @@ class JobApplicationServiceImplTest {
                 .id(1L)
                 .candidate(candidate)
                 .jobOffer(activeJobOffer)
-                .status("PENDING")
+                .status(ApplicationStatus.PENDING)
                 .build();
 
         // Setup DTO
@@ -117,18 +139,50 @@ class JobApplicationServiceImplTest {
     }
 
     @Test
-    @DisplayName("Should return all applications successfully")
-    void findAll_ShouldReturnAllApplications() {
-        List<JobApplication> applications = Arrays.asList(application);
-        when(applicationRepository.findAll()).thenReturn(applications);
+    @DisplayName("Should return a filtered page and a cursor when more rows exist")
+    void findPage_WhenMoreRowsExist_ShouldReturnCursor() {
+        LocalDateTime appliedAt = LocalDateTime.of(2025, 3, 1, 9, 30);
+        application.setAppliedAt(appliedAt);
+        JobApplication older = JobApplication.builder()
+                .id(2L).candidate(candidate).jobOffer(activeJobOffer).status(ApplicationStatus.PENDING).appliedAt(appliedAt.minusDays(1))
+                .build();
+        when(applicationRepository.findBy(any(Specification.class), any())).thenReturn(List.of(application, older));
         when(mapper.toDto(any(JobApplication.class))).thenReturn(applicationDTO);
 
-        List<JobApplicationDTO> result = service.findAll();
+        CursorPage<JobApplicationDTO> result = service.findPage(
+                new JobApplicationFilter(null, 1L, ApplicationStatus.PENDING, null, null), null, 1);
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.hasMore()).isTrue();
+        assertThat(KeysetCursor.decode(result.nextCursor())).isEqualTo(new KeysetCursor(appliedAt, 1L));
+        verify(applicationRepository, never()).findAll();
+    }
 
-        assertThat(result).isNotEmpty();
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getCandidateId()).isEqualTo(1L);
-        verify(applicationRepository, times(1)).findAll();
+    @Test
+    @DisplayName("Should write one JSON document per line when exporting, flushing only at the end")
+    void exportNdjson_ShouldWriteOneLinePerRow() {
+        LocalDateTime appliedAt = LocalDateTime.of(2025, 3, 1, 9, 30);
+        when(applicationRepository.streamForExport(any(Specification.class))).thenReturn(Stream.of(
+                new JobApplicationExportRow(1L, 1L, 1L, ApplicationStatus.PENDING, appliedAt),
+                new JobApplicationExportRow(2L, 3L, 1L, ApplicationStatus.REJECTED, appliedAt)));
+        AtomicInteger flushes = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+
+        long count = service.exportNdjson(new JobApplicationFilter(null, 1L, null, null, null), out);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+        assertThat(flushes.get()).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n"))
+                .containsExactly(
+                        "{\"id\":1,\"candidateId\":1,\"jobOfferId\":1,\"status\":\"PENDING\",\"appliedAt\":\"2025-03-01T09:30:00\"}",
+                        "{\"id\":2,\"candidateId\":3,\"jobOfferId\":1,\"status\":\"REJECTED\",\"appliedAt\":\"2025-03-01T09:30:00\"}");
+        verify(applicationRepository, never()).findAll();
     }
 
     @Test
@@ -217,10 +271,24 @@ class JobApplicationServiceImplTest {
                 .hasMessageContaining("already applied");
     }
 
+    @Test
+    @DisplayName("Should reject a new application that does not start as PENDING")
+    void create_WithNonInitialStatus_ShouldThrowException() {
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(candidate));
+        when(jobOfferRepository.findById(1L)).thenReturn(Optional.of(activeJobOffer));
+        when(mapper.toEntity(any(JobApplicationDTO.class)))
+                .thenReturn(JobApplication.builder().status(ApplicationStatus.ACCEPTED).build());
+
+        assertThatThrownBy(() -> service.create(applicationDTO))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("PENDING");
+        verify(applicationRepository, never()).save(any(JobApplication.class));
+    }
+
     @Test
     @DisplayName("Should update application status successfully")
     void updateStatus_WithValidId_ShouldUpdateStatus() {
-        String newStatus = "REVIEWED";
+        ApplicationStatus newStatus = ApplicationStatus.REVIEWING;
         JobApplication updatedApplication = JobApplication.builder()
                 .id(1L)
                 .candidate(candidate)
@@ -232,17 +300,112 @@ class JobApplicationServiceImplTest {
                 .id(1L)
                 .candidateId(1L)
                 .jobOfferId(1L)
-                .status(newStatus)
+                .status(newStatus.name())
                 .build();
 
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(application));
+        when(applicationRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(application));
         when(applicationRepository.save(any(JobApplication.class))).thenReturn(updatedApplication);
         when(mapper.toDto(updatedApplication)).thenReturn(updatedDTO);
 
         JobApplicationDTO result = service.updateStatus(1L, newStatus);
 
         assertThat(result).isNotNull();
-        assertThat(result.getStatus()).isEqualTo(newStatus);
+        assertThat(result.getStatus()).isEqualTo("REVIEWING");
         verify(applicationRepository, times(1)).save(any(JobApplication.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reject a status change the lifecycle does not allow")
+    void updateStatus_WithInvalidTransition_ShouldThrowException() {
+        application.setStatus(ApplicationStatus.REJECTED);
+        when(applicationRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(application));
+
+        assertThatThrownBy(() -> service.updateStatus(1L, ApplicationStatus.INTERVIEW))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("REJECTED")
+                .hasMessageContaining("INTERVIEW");
+        verify(applicationRepository, never()).save(any(JobApplication.class));
+    }
+
+    @Test
+    @DisplayName("Should bulk update ids in chunks and report skipped ones")
+    void updateStatuses_ByIds_ShouldReportPerIdOutcome() {
+        ReflectionTestUtils.setField(service, "bulkChunkSize", 2);
+        Set<ApplicationStatus> sources = ApplicationStatus.sourcesOf(ApplicationStatus.REJECTED);
+        when(applicationRepository.updateStatusByIds(List.of(1L, 2L), sources, ApplicationStatus.REJECTED))
+                .thenReturn(List.of(1L, 2L));
+        when(applicationRepository.updateStatusByIds(List.of(3L, 4L), sources, ApplicationStatus.REJECTED))
+                .thenReturn(List.of());
+        when(applicationRepository.findExistingIds(List.of(3L, 4L))).thenReturn(List.of(4L));
+
+        BulkStatusUpdateResult result = service.updateStatuses(new BulkStatusUpdateRequest(
+                List.of(3L, 1L, 4L, 2L, 1L), null, null, ApplicationStatus.REJECTED));
+
+        assertThat(result.updated()).isEqualTo(2);
+        assertThat(result.results()).containsExactly(
+                new BulkStatusUpdateResult.Item(1L, BulkStatusUpdateResult.Outcome.UPDATED),
+                new BulkStatusUpdateResult.Item(2L, BulkStatusUpdateResult.Outcome.UPDATED),
+                new BulkStatusUpdateResult.Item(3L, BulkStatusUpdateResult.Outcome.NOT_FOUND),
+                new BulkStatusUpdateResult.Item(4L, BulkStatusUpdateResult.Outcome.INVALID_TRANSITION));
+        verify(applicationRepository, never()).findById(any());
+        verify(applicationRepository, times(1)).findExistingIds(any());
+    }
+
+    @Test
+    @DisplayName("Should bulk update a job offer's applications until a chunk comes back empty")
+    void updateStatuses_ByJobOffer_ShouldRepeatChunks() {
+        ReflectionTestUtils.setField(service, "bulkChunkSize", 2);
+        when(applicationRepository.updateStatusByJobOffer(1L, ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 2))
+                .thenReturn(List.of(10L, 11L), List.of(12L), List.of());
+
+        BulkStatusUpdateResult result = service.updateStatuses(
+                new BulkStatusUpdateRequest(null, 1L, ApplicationStatus.PENDING, ApplicationStatus.REJECTED));
+
+        assertThat(result.updated()).isEqualTo(3);
+        assertThat(result.results()).extracting(BulkStatusUpdateResult.Item::id).containsExactly(10L, 11L, 12L);
+        assertThat(result.limitReached()).isFalse();
+        verify(applicationRepository, times(3))
+                .updateStatusByJobOffer(1L, ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 2);
+    }
+
+    @Test
+    @DisplayName("Should stop a bulk update of a job offer after as many applications as a request may name by id")
+    void updateStatuses_ByJobOfferAboveLimit_ShouldStopAtLimit() {
+        ReflectionTestUtils.setField(service, "bulkChunkSize", 2);
+        ReflectionTestUtils.setField(service, "bulkMaxIds", 3);
+        when(applicationRepository.updateStatusByJobOffer(1L, ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 2))
+                .thenReturn(List.of(10L, 11L));
+        when(applicationRepository.updateStatusByJobOffer(1L, ApplicationStatus.PENDING, ApplicationStatus.REJECTED, 1))
+                .thenReturn(List.of(12L));
+
+        BulkStatusUpdateResult result = service.updateStatuses(
+                new BulkStatusUpdateRequest(null, 1L, ApplicationStatus.PENDING, ApplicationStatus.REJECTED));
+
+        assertThat(result.updated()).isEqualTo(3);
+        assertThat(result.limitReached()).isTrue();
+        verify(applicationRepository, times(2)).updateStatusByJobOffer(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk update of a job offer for a transition the lifecycle does not allow")
+    void updateStatuses_ByJobOfferWithInvalidTransition_ShouldThrowException() {
+        BulkStatusUpdateRequest request =
+                new BulkStatusUpdateRequest(null, 1L, ApplicationStatus.PENDING, ApplicationStatus.ACCEPTED);
+
+        assertThatThrownBy(() -> service.updateStatuses(request))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("PENDING to ACCEPTED");
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk update with both ids and a job offer filter")
+    void updateStatuses_WithAmbiguousSelection_ShouldThrowException() {
+        BulkStatusUpdateRequest request = new BulkStatusUpdateRequest(
+                List.of(1L), 1L, ApplicationStatus.PENDING, ApplicationStatus.REJECTED);
+
+        assertThatThrownBy(() -> service.updateStatuses(request))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(applicationRepository);
+    }
+}
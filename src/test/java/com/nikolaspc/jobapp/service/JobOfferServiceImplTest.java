@@ -1,20 +1,32 @@
 package com.nikolaspc.jobapp.service;
 
 import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.CursorPage;
+import com.nikolaspc.jobapp.dto.KeysetCursor;
+import com.nikolaspc.jobapp.dto.RankCursor;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferRequestDTO;
 import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.exception.BadRequestException;
 import com.nikolaspc.jobapp.exception.ResourceNotFoundException;
 import com.nikolaspc.jobapp.mapper.JobOfferMapper;
 import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.cache.ActiveJobOffersSnapshot;
+import com.nikolaspc.jobapp.service.cache.JobOfferCatalogVersion;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
 import com.nikolaspc.jobapp.service.impl.JobOfferServiceImpl;
+import com.nikolaspc.jobapp.service.search.JobOfferFacetCounts;
+import com.nikolaspc.jobapp.service.search.JobOfferSearchIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +44,21 @@ class JobOfferServiceImplTest {
     @Mock
     private JobOfferMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JobOfferFacetCounts facetCounts;
+
+    @Mock
+    private JobOfferSearchIndex searchIndex;
+
+    @Mock
+    private JobOfferCatalogVersion catalogVersion;
+
+    @Mock
+    private ActiveJobOffersSnapshot activeOffersSnapshot;
+
     @InjectMocks
     private JobOfferServiceImpl service;
 
@@ -48,7 +75,8 @@ class JobOfferServiceImplTest {
                 "Berlin",
                 "FULL_TIME",
                 true,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
 
         given(repository.findById(id)).willReturn(Optional.of(offer));
@@ -86,7 +114,8 @@ class JobOfferServiceImplTest {
                 "Berlin",
                 "FULL_TIME",
                 true,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
 
         given(mapper.toEntity(request)).willReturn(offer);
@@ -97,6 +126,7 @@ class JobOfferServiceImplTest {
 
         assertThat(result.id()).isEqualTo(10L);
         verify(repository).save(any(JobOffer.class));
+        verify(eventPublisher).publishEvent(JobOfferChangedEvent.saved(response));
     }
 
     @Test
@@ -108,6 +138,7 @@ class JobOfferServiceImplTest {
         service.delete(id);
 
         verify(repository).deleteById(id);
+        verify(eventPublisher).publishEvent(JobOfferChangedEvent.deleted(id));
     }
 
     @Test
@@ -120,5 +151,128 @@ class JobOfferServiceImplTest {
                 .isInstanceOf(ResourceNotFoundException.class);
 
         verify(repository, never()).deleteById(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should return first page with next cursor when more rows exist")
+    void findPage_FirstPage_ShouldReturnCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 10, 12, 0);
+        List<JobOffer> rows = List.of(offer(3L, createdAt), offer(2L, createdAt), offer(1L, createdAt));
+        given(repository.findByActiveTrueOrderByCreatedAtDescIdDesc(Limit.of(3))).willReturn(rows);
+        given(mapper.toResponseDto(any(JobOffer.class))).willAnswer(inv -> response(inv.getArgument(0)));
+
+        CursorPage<JobOfferResponseDTO> page = service.findPage(null, 2, true);
+
+        assertThat(page.items()).extracting(JobOfferResponseDTO::id).containsExactly(3L, 2L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(new KeysetCursor(createdAt, 2L));
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor and report the last page")
+    void findPage_WithCursor_ShouldSeekAfterCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 10, 12, 0);
+        String cursor = new KeysetCursor(createdAt, 2L).encode();
+        given(repository.findAllAfter(createdAt, 2L, Limit.of(3))).willReturn(List.of(offer(1L, createdAt)));
+        given(mapper.toResponseDto(any(JobOffer.class))).willAnswer(inv -> response(inv.getArgument(0)));
+
+        CursorPage<JobOfferResponseDTO> page = service.findPage(cursor, 2, false);
+
+        assertThat(page.items()).extracting(JobOfferResponseDTO::id).containsExactly(1L);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should cap the page size")
+    void findPage_WithHugeSize_ShouldCapSize() {
+        given(repository.findByActiveTrueOrderByCreatedAtDescIdDesc(any(Limit.class))).willReturn(List.of());
+
+        service.findPage(null, 10_000, true);
+
+        verify(repository).findByActiveTrueOrderByCreatedAtDescIdDesc(Limit.of(CursorPage.MAX_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered cursor")
+    void findPage_WithInvalidCursor_ShouldThrowException() {
+        assertThatThrownBy(() -> service.findPage("not-a-cursor", 20, true))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty search query")
+    void search_WithBlankQuery_ShouldThrowException() {
+        assertThatThrownBy(() -> service.search("  ", null, 20))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should continue a search after the rank cursor")
+    void search_WithCursor_ShouldSeekAfterRank() {
+        String cursor = new RankCursor(0.25f, 7L).encode();
+        given(searchIndex.canServe("java")).willReturn(false);
+        given(repository.searchAfter("java", 0.25f, 7L, 21)).willReturn(List.of());
+
+        CursorPage<JobOfferResponseDTO> page = service.search("java", cursor, 20);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should page through plain term searches from the in-memory index")
+    void search_PlainTerms_ShouldUseIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        given(searchIndex.canServe("java")).willReturn(true);
+        given(searchIndex.searchRanked("java")).willReturn(List.of(
+                new JobOfferSearchIndex.Hit(response(offer(9L, now)), 1.0f),
+                new JobOfferSearchIndex.Hit(response(offer(4L, now)), 1.0f),
+                new JobOfferSearchIndex.Hit(response(offer(8L, now)), 0.2f)));
+
+        CursorPage<JobOfferResponseDTO> first = service.search("java", null, 2);
+        CursorPage<JobOfferResponseDTO> second = service.search("java", first.nextCursor(), 2);
+
+        assertThat(first.items()).extracting(JobOfferResponseDTO::id).containsExactly(9L, 4L);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.items()).extracting(JobOfferResponseDTO::id).containsExactly(8L);
+        assertThat(second.hasMore()).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Should answer an update with the updatedAt set when the change was flushed")
+    void update_ShouldReturnFlushedUpdatedAt() {
+        LocalDateTime flushedAt = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000);
+        JobOffer offer = offer(1L, flushedAt.minusDays(1));
+        JobOfferRequestDTO request = new JobOfferRequestDTO("Java Dev", "Desc", "Berlin", "FULL_TIME");
+        given(repository.findById(1L)).willReturn(Optional.of(offer));
+        given(repository.saveAndFlush(offer)).willAnswer(invocation -> {
+            // English: What @PreUpdate does at flush
+            offer.setUpdatedAt(flushedAt);
+            return offer;
+        });
+        given(mapper.toResponseDto(offer)).willAnswer(invocation -> new JobOfferResponseDTO(offer.getId(),
+                "Java Dev", "Desc", "Berlin", "FULL_TIME", true, offer.getCreatedAt(), offer.getUpdatedAt()));
+
+        JobOfferResponseDTO result = service.update(1L, request);
+
+        assertThat(result.updatedAt()).isEqualTo(flushedAt);
+        verify(eventPublisher).publishEvent(JobOfferChangedEvent.saved(result));
+        verify(repository, never()).save(any());
+    }
+
+    private static JobOffer offer(Long id, LocalDateTime createdAt) {
+        JobOffer offer = new JobOffer();
+        offer.setId(id);
+        offer.setCreatedAt(createdAt);
+        return offer;
+    }
+
+    private static JobOfferResponseDTO response(JobOffer offer) {
+        return new JobOfferResponseDTO(offer.getId(), "Java Dev", "Desc", "Berlin", "FULL_TIME", true, offer.getCreatedAt(), null);
     }
-}
\ No newline at end of file
+}
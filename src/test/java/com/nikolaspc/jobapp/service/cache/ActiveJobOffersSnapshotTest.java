@@ -0,0 +1,125 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.PreparedJson;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.mapper.JobOfferMapper;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveJobOffersSnapshot Unit Tests")
+class ActiveJobOffersSnapshotTest {
+
+    @Mock
+    private JobOfferRepository repository;
+
+    @Mock
+    private JobOfferMapper mapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ActiveJobOffersSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ActiveJobOffersSnapshot(repository, mapper, objectMapper, meterRegistry,
+                Clock.fixed(Instant.parse("2025-03-01T09:00:00Z"), ZoneOffset.UTC));
+        given(mapper.toResponseDto(any(JobOffer.class))).willAnswer(inv -> response(inv.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Should serialize and compress once, then serve the same bytes")
+    void get_ShouldBuildOnceAndReuse() throws IOException {
+        given(repository.findByActiveTrue()).willReturn(List.of(offer(1L, "Java Dev"), offer(2L, "Go Dev")));
+
+        PreparedJson first = snapshot.get();
+        PreparedJson second = snapshot.get();
+
+        assertThat(second).isSameAs(first);
+        verify(repository, times(1)).findByActiveTrue();
+        assertThat(objectMapper.readTree(first.json()).findValuesAsText("title")).containsExactly("Java Dev", "Go Dev");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(first.json());
+        }
+        assertThat(meterRegistry.get("jobs.active.snapshot.size").tag("encoding", "identity").gauge().value())
+                .isEqualTo(first.json().length);
+    }
+
+    @Test
+    @DisplayName("Should rebuild after a committed write and change the ETag")
+    void onJobOfferChanged_ShouldRebuildSnapshot() {
+        given(repository.findByActiveTrue())
+                .willReturn(List.of(offer(1L, "Java Dev")))
+                .willReturn(List.of(offer(1L, "Java Dev"), offer(2L, "Go Dev")));
+        PreparedJson before = snapshot.get();
+
+        snapshot.onJobOfferChanged(JobOfferChangedEvent.deleted(3L));
+
+        assertThat(snapshot.get().etag()).isNotEqualTo(before.etag());
+        verify(repository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the previous snapshot when a write did not change the content")
+    void onJobOfferChanged_WithSameContent_ShouldKeepValidators() {
+        given(repository.findByActiveTrue()).willReturn(List.of(offer(1L, "Java Dev")));
+        PreparedJson before = snapshot.get();
+
+        snapshot.onJobOfferChanged(JobOfferChangedEvent.deleted(3L));
+
+        assertThat(snapshot.get()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed rebuild on the next read")
+    void onJobOfferChanged_WhenRebuildFails_ShouldRetryOnRead() {
+        given(repository.findByActiveTrue()).willReturn(List.of(offer(1L, "Java Dev")));
+        PreparedJson before = snapshot.get();
+        willThrow(new IllegalStateException("database down")).given(repository).findByActiveTrue();
+
+        snapshot.onJobOfferChanged(JobOfferChangedEvent.deleted(1L));
+
+        willReturn(List.of()).given(repository).findByActiveTrue();
+        assertThat(snapshot.get().etag()).isNotEqualTo(before.etag());
+    }
+
+    private static JobOffer offer(Long id, String title) {
+        return JobOffer.builder().id(id).title(title).build();
+    }
+
+    private static JobOfferResponseDTO response(JobOffer offer) {
+        return new JobOfferResponseDTO(offer.getId(), offer.getTitle(), "Desc", "Berlin", "FULL_TIME", true,
+                LocalDateTime.of(2025, 3, 1, 9, 0), null);
+    }
+}
@@ -0,0 +1,84 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.nikolaspc.jobapp.config.CacheConfig;
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("CacheInvalidationListener Unit Tests")
+class CacheInvalidationListenerTest {
+
+    private final CacheManager cacheManager = new CacheConfig().cacheManager(
+            "maximumSize=100", "maximumSize=100");
+
+    private final SessionFactory sessionFactory = mock(SessionFactory.class);
+
+    private final org.hibernate.Cache secondLevelCache = mock(org.hibernate.Cache.class);
+
+    private final CacheInvalidationListener listener = new CacheInvalidationListener(cacheManager, sessionFactory);
+
+    @BeforeEach
+    void setUp() {
+        given(sessionFactory.getCache()).willReturn(secondLevelCache);
+    }
+
+    @Test
+    @DisplayName("Should evict only the changed offer")
+    void onJobOfferChanged_ShouldEvictOffer() {
+        cacheManager.getCache(CacheNames.JOB_OFFERS).put(1L, "offer 1");
+        cacheManager.getCache(CacheNames.JOB_OFFERS).put(2L, "offer 2");
+
+        listener.onJobOfferChanged(JobOfferChangedEvent.deleted(1L));
+
+        assertThat(cacheManager.getCache(CacheNames.JOB_OFFERS).get(1L)).isNull();
+        assertThat(cacheManager.getCache(CacheNames.JOB_OFFERS).get(2L)).isNotNull();
+        // English: Hibernate maintains the second-level cache itself for local writes
+        verifyNoInteractions(secondLevelCache);
+    }
+
+    @Test
+    @DisplayName("Should also evict the second-level cache for writes made by another instance")
+    void onRemoteJobOfferChanged_ShouldEvictSecondLevelCache() {
+        listener.onJobOfferChanged(JobOfferChangedEvent.remote(1L, null));
+
+        verify(secondLevelCache).evictEntityData(JobOffer.class, 1L);
+        verify(secondLevelCache).evictQueryRegion(JobOfferRepository.ACTIVE_OFFERS_QUERY_REGION);
+    }
+
+    @Test
+    @DisplayName("Should evict every email a changed user was cached under")
+    void onUserChanged_ShouldEvictOldAndNewEmail() {
+        cacheManager.getCache(CacheNames.USERS_BY_EMAIL).put("old@example.com", "user");
+        cacheManager.getCache(CacheNames.USERS_BY_EMAIL).put("other@example.com", "other");
+
+        listener.onUserChanged(UserChangedEvent.of("old@example.com", "new@example.com"));
+
+        assertThat(cacheManager.getCache(CacheNames.USERS_BY_EMAIL).get("old@example.com")).isNull();
+        assertThat(cacheManager.getCache(CacheNames.USERS_BY_EMAIL).get("other@example.com")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should clear every cache when invalidations may have been missed")
+    void onInvalidationGap_ShouldClearAllCaches() {
+        cacheManager.getCache(CacheNames.JOB_OFFERS).put(1L, "offer 1");
+        cacheManager.getCache(CacheNames.USERS_BY_EMAIL).put("user@example.com", "user");
+
+        listener.onInvalidationGap();
+
+        assertThat(cacheManager.getCache(CacheNames.JOB_OFFERS).get(1L)).isNull();
+        assertThat(cacheManager.getCache(CacheNames.USERS_BY_EMAIL).get("user@example.com")).isNull();
+        verify(secondLevelCache).evictAllRegions();
+    }
+}
@@ -0,0 +1,100 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.nikolaspc.jobapp.AbstractTestContainers;
+import com.nikolaspc.jobapp.mapper.JobOfferMapper;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.InvalidationGapEvent;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Two buses on the same database play two application instances.
+ */
+class ClusterInvalidationBusIT extends AbstractTestContainers {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<Object> eventsOnA = new CopyOnWriteArrayList<>();
+    private final List<Object> eventsOnB = new CopyOnWriteArrayList<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ClusterInvalidationBus nodeA;
+    private ClusterInvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(postgreSQLContainer.getJdbcUrl(),
+                postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        nodeA = bus(dataSource, eventsOnA);
+        nodeB = bus(dataSource, eventsOnB);
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void shouldReplayCommittedWritesOnOtherNodesOnly() {
+        transactionTemplate.executeWithoutResult(status -> nodeA.onJobOfferChanged(JobOfferChangedEvent.deleted(7L)));
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(eventsOnB).containsExactly(JobOfferChangedEvent.remote(7L, null)));
+        assertThat(eventsOnA).isEmpty();
+    }
+
+    @Test
+    void shouldNeverDeliverRolledBackWrites() {
+        transactionTemplate.executeWithoutResult(status -> {
+            nodeA.onUserChanged(UserChangedEvent.of("rolled.back@example.com"));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> nodeA.onUserChanged(UserChangedEvent.of("committed@example.com")));
+
+        // English: Notifications arrive in commit order, so once the second one is here the first would have been too
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(eventsOnB).contains(UserChangedEvent.remote("committed@example.com")));
+        assertThat(eventsOnB).containsExactly(UserChangedEvent.remote("committed@example.com"));
+    }
+
+    @Test
+    void shouldReportGapAndKeepListeningAfterConnectionLoss() {
+        jdbcTemplate.queryForList("SELECT pg_terminate_backend(pid) FROM pg_stat_activity "
+                + "WHERE datname = current_database() AND pid <> pg_backend_pid()");
+
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(eventsOnB).hasAtLeastOneElementOfType(InvalidationGapEvent.class));
+
+        nodeA.onUserChanged(UserChangedEvent.of("after.reconnect@example.com"));
+        await().atMost(TIMEOUT).untilAsserted(() ->
+                assertThat(eventsOnB).contains(UserChangedEvent.remote("after.reconnect@example.com")));
+    }
+
+    private static ClusterInvalidationBus bus(DriverManagerDataSource dataSource, List<Object> events) {
+        return new ClusterInvalidationBus(dataSource, new JdbcTemplate(dataSource), mock(JobOfferRepository.class),
+                mock(JobOfferMapper.class), events::add, new SimpleMeterRegistry(),
+                "test_invalidation", Duration.ofMillis(200), Duration.ofMillis(200));
+    }
+}
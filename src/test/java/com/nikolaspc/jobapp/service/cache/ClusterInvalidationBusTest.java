@@ -0,0 +1,174 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.mapper.JobOfferMapper;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import com.nikolaspc.jobapp.service.event.UserChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterInvalidationBus Unit Tests")
+class ClusterInvalidationBusTest {
+
+    private static final String CHANNEL = "test_invalidation";
+    private static final String OTHER_NODE = "other-node";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JobOfferRepository repository;
+
+    @Mock
+    private JobOfferMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ClusterInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new ClusterInvalidationBus(dataSource, jdbcTemplate, repository, mapper, eventPublisher, meterRegistry,
+                CHANNEL, Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should notify the key of every local write")
+    void onLocalChange_ShouldNotifyKeys() {
+        bus.onJobOfferChanged(JobOfferChangedEvent.deleted(7L));
+        bus.onUserChanged(UserChangedEvent.of("anna@example.com"));
+
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq(CHANNEL), eq(bus.nodeId() + ":J:7"));
+        verify(jdbcTemplate).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq(CHANNEL), eq(bus.nodeId() + ":U:anna@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should never send replayed remote events back to the cluster")
+    void onRemoteChange_ShouldNotNotify() {
+        bus.onJobOfferChanged(JobOfferChangedEvent.remote(7L, null));
+        bus.onUserChanged(UserChangedEvent.remote("anna@example.com"));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should replay another node's offer write with the committed state")
+    void handle_JobOfferFromOtherNode_ShouldPublishRemoteEvent() {
+        JobOffer offer = JobOffer.builder().id(7L).build();
+        JobOfferResponseDTO response = new JobOfferResponseDTO(7L, "Title", "Desc", "Berlin", "FULL_TIME", true,
+                LocalDateTime.now(), null);
+        given(repository.findCommittedById(7L)).willReturn(Optional.of(offer));
+        given(mapper.toResponseDto(offer)).willReturn(response);
+
+        bus.handle(OTHER_NODE + ":J:7");
+
+        verify(eventPublisher).publishEvent(JobOfferChangedEvent.remote(7L, response));
+        assertThat(meterRegistry.get("cache.invalidation.received").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should replay a deleted offer as a remote delete")
+    void handle_DeletedJobOffer_ShouldPublishRemoteDelete() {
+        given(repository.findCommittedById(7L)).willReturn(Optional.empty());
+
+        bus.handle(OTHER_NODE + ":J:7");
+
+        verify(eventPublisher).publishEvent(JobOfferChangedEvent.remote(7L, null));
+    }
+
+    @Test
+    @DisplayName("Should replay another node's user write")
+    void handle_UserFromOtherNode_ShouldPublishRemoteEvent() {
+        bus.handle(OTHER_NODE + ":U:anna@example.com");
+
+        verify(eventPublisher).publishEvent(UserChangedEvent.remote("anna@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should skip its own and malformed notifications")
+    void handle_OwnOrMalformed_ShouldBeIgnored() {
+        bus.handle(bus.nodeId() + ":J:7");
+        bus.handle("garbage");
+        bus.handle(OTHER_NODE + ":X:7");
+
+        verifyNoInteractions(repository);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should unlisten before handing the connection back when a replay fails")
+    void listen_ReplayFails_ShouldUnlistenBeforeReturningConnection() throws Exception {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        PGNotification notification = mock(PGNotification.class);
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(connection.getAutoCommit()).willReturn(true);
+        given(connection.unwrap(PGConnection.class)).willReturn(pgConnection);
+        given(pgConnection.getNotifications(anyInt())).willReturn(new PGNotification[]{notification});
+        given(notification.getParameter()).willReturn(OTHER_NODE + ":U:jane@example.com");
+        willThrow(new IllegalStateException("replay failed")).given(eventPublisher).publishEvent(any(Object.class));
+
+        bus.start();
+        try {
+            InOrder inOrder = inOrder(statement, connection);
+            inOrder.verify(statement, timeout(5000)).execute("LISTEN " + CHANNEL);
+            inOrder.verify(statement, timeout(5000)).execute("UNLISTEN *");
+            inOrder.verify(connection, timeout(5000)).close();
+        } finally {
+            bus.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject channel names that are not plain identifiers")
+    void constructor_InvalidChannel_ShouldThrow() {
+        assertThatThrownBy(() -> new ClusterInvalidationBus(dataSource, jdbcTemplate, repository, mapper,
+                eventPublisher, meterRegistry, "cache; DROP TABLE users", Duration.ofSeconds(1), Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
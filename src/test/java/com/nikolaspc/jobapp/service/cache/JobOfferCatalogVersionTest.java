@@ -0,0 +1,43 @@
+package com.nikolaspc.jobapp.service.cache;
+
+import com.nikolaspc.jobapp.dto.ResourceVersion;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobOfferCatalogVersion Unit Tests")
+class JobOfferCatalogVersionTest {
+
+    private static final Instant STARTUP = Instant.parse("2025-03-01T09:00:00Z");
+
+    @Test
+    @DisplayName("Should change ETag and Last-Modified on every committed write")
+    void onJobOfferChanged_ShouldBumpVersion() {
+        Clock clock = Clock.fixed(STARTUP, ZoneOffset.UTC);
+        JobOfferCatalogVersion catalogVersion = new JobOfferCatalogVersion(clock);
+        ResourceVersion initial = catalogVersion.current();
+
+        catalogVersion.onJobOfferChanged(JobOfferChangedEvent.deleted(1L));
+        ResourceVersion afterWrite = catalogVersion.current();
+
+        assertThat(initial.lastModified()).isEqualTo(STARTUP);
+        assertThat(afterWrite.etag()).isNotEqualTo(initial.etag());
+        assertThat(afterWrite.lastModified()).isEqualTo(STARTUP);
+        assertThat(catalogVersion.current()).isEqualTo(afterWrite);
+    }
+
+    @Test
+    @DisplayName("Should never reuse ETags across restarts")
+    void current_AfterRestart_ShouldUseNewEpoch() {
+        ResourceVersion before = new JobOfferCatalogVersion(Clock.fixed(STARTUP, ZoneOffset.UTC)).current();
+        ResourceVersion after = new JobOfferCatalogVersion(Clock.fixed(STARTUP.plusSeconds(5), ZoneOffset.UTC)).current();
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+}
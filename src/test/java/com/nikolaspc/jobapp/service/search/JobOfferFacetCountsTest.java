@@ -0,0 +1,146 @@
+package com.nikolaspc.jobapp.service.search;
+
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetCount;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetRow;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferFacetsDTO;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobOfferFacetCounts Unit Tests")
+class JobOfferFacetCountsTest {
+
+    @Mock
+    private JobOfferRepository repository;
+
+    @Mock
+    private JobOfferSearchIndex searchIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JobOfferFacetCounts facetCounts;
+
+    @BeforeEach
+    void setUp() {
+        facetCounts = new JobOfferFacetCounts(repository, searchIndex, meterRegistry);
+        given(repository.findActiveFacetRows()).willReturn(List.of(
+                row(1L, "Berlin", "FULL_TIME"),
+                row(2L, "Berlin", "PART_TIME"),
+                row(3L, "Munich", "FULL_TIME")));
+        facetCounts.reload();
+    }
+
+    @Test
+    @DisplayName("Should count all active offers, most frequent value first")
+    void facets_WithoutQuery_ShouldReturnGlobalCounts() {
+        JobOfferFacetsDTO facets = facetCounts.facets(null);
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.location()).containsExactly(Map.entry("Berlin", 2L), Map.entry("Munich", 1L));
+        assertThat(facets.employmentType()).containsExactly(Map.entry("FULL_TIME", 2L), Map.entry("PART_TIME", 1L));
+    }
+
+    @Test
+    @DisplayName("Should count only the offers matching the query")
+    void facets_WithQuery_ShouldCountMatchingOffers() {
+        given(searchIndex.search("java")).willReturn(new int[]{1, 3});
+
+        JobOfferFacetsDTO facets = facetCounts.facets("java");
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.location()).containsOnly(Map.entry("Berlin", 1L), Map.entry("Munich", 1L));
+        assertThat(facets.employmentType()).containsOnly(Map.entry("FULL_TIME", 2L));
+    }
+
+    @Test
+    @DisplayName("Should move, drop and add counts on offer changes")
+    void onJobOfferChanged_ShouldUpdateCountsIncrementally() {
+        facetCounts.onJobOfferChanged(JobOfferChangedEvent.saved(response(2L, "Hamburg", "PART_TIME", true)));
+        facetCounts.onJobOfferChanged(JobOfferChangedEvent.saved(response(3L, "Munich", "FULL_TIME", false)));
+        facetCounts.onJobOfferChanged(JobOfferChangedEvent.deleted(1L));
+        facetCounts.onJobOfferChanged(JobOfferChangedEvent.saved(response(4L, "Berlin", "CONTRACT", true)));
+
+        JobOfferFacetsDTO facets = facetCounts.facets("");
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.location()).containsOnly(Map.entry("Berlin", 1L), Map.entry("Hamburg", 1L));
+        assertThat(facets.employmentType()).containsOnly(Map.entry("CONTRACT", 1L), Map.entry("PART_TIME", 1L));
+    }
+
+    @Test
+    @DisplayName("Should keep counts that agree with the database")
+    void reconcile_WhenInSync_ShouldNotReload() {
+        given(repository.countActiveByFacets()).willReturn(List.of(
+                count("Berlin", "FULL_TIME", 1), count("Berlin", "PART_TIME", 1), count("Munich", "FULL_TIME", 1)));
+
+        facetCounts.reconcile();
+
+        verify(repository, times(1)).findActiveFacetRows();
+        assertThat(meterRegistry.get("search.facets.drift").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reload when the database disagrees")
+    void reconcile_WhenDrifted_ShouldReload() {
+        given(repository.countActiveByFacets()).willReturn(List.of(count("Berlin", "FULL_TIME", 1)));
+        given(repository.findActiveFacetRows()).willReturn(List.of(row(1L, "Berlin", "FULL_TIME")));
+
+        facetCounts.reconcile();
+
+        assertThat(facetCounts.facets(null).location()).containsExactly(Map.entry("Berlin", 1L));
+        assertThat(meterRegistry.get("search.facets.drift").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous counts while a reload is running")
+    void reload_ShouldPublishNewCountsAtOnce() {
+        List<JobOfferFacetsDTO> seenDuringReload = new ArrayList<>();
+        given(repository.findActiveFacetRows()).willAnswer(invocation -> {
+            seenDuringReload.add(facetCounts.facets(null));
+            return List.of(row(1L, "Berlin", "FULL_TIME"));
+        });
+
+        facetCounts.reload();
+
+        assertThat(seenDuringReload).singleElement().extracting(JobOfferFacetsDTO::total).isEqualTo(3L);
+        assertThat(facetCounts.facets(null).total()).isEqualTo(1);
+    }
+
+    private static JobOfferFacetRow row(Long id, String location, String employmentType) {
+        return new JobOfferFacetRow() {
+            public Long getId() { return id; }
+            public String getLocation() { return location; }
+            public String getEmploymentType() { return employmentType; }
+        };
+    }
+
+    private static JobOfferFacetCount count(String location, String employmentType, long total) {
+        return new JobOfferFacetCount() {
+            public String getLocation() { return location; }
+            public String getEmploymentType() { return employmentType; }
+            public long getTotal() { return total; }
+        };
+    }
+
+    private static JobOfferResponseDTO response(Long id, String location, String employmentType, boolean active) {
+        return new JobOfferResponseDTO(id, "Title", "Desc", location, employmentType, active, LocalDateTime.now(), null);
+    }
+}
@@ -0,0 +1,147 @@
+package com.nikolaspc.jobapp.service.search;
+
+import com.nikolaspc.jobapp.domain.JobOffer;
+import com.nikolaspc.jobapp.dto.joboffer.JobOfferResponseDTO;
+import com.nikolaspc.jobapp.mapper.JobOfferMapper;
+import com.nikolaspc.jobapp.repository.JobOfferRepository;
+import com.nikolaspc.jobapp.service.event.JobOfferChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobOfferSearchIndex Unit Tests")
+class JobOfferSearchIndexTest {
+
+    @Mock
+    private JobOfferRepository repository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JobOfferSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobOfferSearchIndex(repository, Mappers.getMapper(JobOfferMapper.class), meterRegistry);
+        given(repository.findByActiveTrue()).willReturn(List.of(
+                offer(1L, "Java Backend Developer", "Spring Boot, PostgreSQL", "Berlin"),
+                offer(2L, "Frontend Developer", "React / TypeScript", "Munich"),
+                offer(3L, "Java Architect", "Microservices on Kubernetes", "Berlin")));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should match offers containing every query term, case-insensitively")
+    void search_ShouldIntersectTerms() {
+        assertThat(index.search("java")).containsExactly(1, 3);
+        assertThat(index.search("JAVA berlin spring")).containsExactly(1);
+        assertThat(index.search("developer")).containsExactly(1, 2);
+        assertThat(index.search("java munich")).isEmpty();
+        assertThat(index.search("   ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should build sorted posting lists from offers in any order and keep them sorted on updates")
+    void rebuild_UnorderedOffers_ShouldSortPostings() {
+        given(repository.findByActiveTrue()).willReturn(List.of(
+                offer(9L, "Java Developer", null, "Berlin"),
+                offer(4L, "Java Developer", null, "Hamburg"),
+                offer(7L, "Java Architect", null, "Berlin")));
+        index.rebuild();
+
+        assertThat(index.search("java")).containsExactly(4, 7, 9);
+        assertThat(index.search("berlin java")).containsExactly(7, 9);
+
+        index.index(response(5L, "Java Tester", null, null, true));
+        assertThat(index.search("java")).containsExactly(4, 5, 7, 9);
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above location and description matches")
+    void searchRanked_ShouldOrderByFieldWeightThenId() {
+        assertThat(index.searchRanked("java"))
+                .extracting(hit -> hit.offer().id(), JobOfferSearchIndex.Hit::rank)
+                .containsExactly(tuple(3L, 1.0f), tuple(1L, 1.0f));
+        assertThat(index.searchRanked("berlin java"))
+                .extracting(hit -> hit.offer().title(), JobOfferSearchIndex.Hit::rank)
+                .containsExactly(tuple("Java Architect", 1.4f), tuple("Java Backend Developer", 1.4f));
+        assertThat(index.searchRanked("developer postgresql"))
+                .singleElement()
+                .satisfies(hit -> assertThat(hit.rank()).isEqualTo(1.2f));
+    }
+
+    @Test
+    @DisplayName("Should leave phrase, OR and exclusion queries to PostgreSQL")
+    void canServe_ShouldAcceptPlainTermsOnly() {
+        assertThat(index.canServe("java berlin")).isTrue();
+        assertThat(index.canServe("front-end oregon")).isTrue();
+        assertThat(index.canServe("\"java developer\"")).isFalse();
+        assertThat(index.canServe("java OR kotlin")).isFalse();
+        assertThat(index.canServe("java -berlin")).isFalse();
+        assertThat(new JobOfferSearchIndex(repository, Mappers.getMapper(JobOfferMapper.class), meterRegistry)
+                .canServe("java")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should replace the terms of an updated offer")
+    void onJobOfferChanged_WhenUpdated_ShouldReindexOffer() {
+        index.onJobOfferChanged(JobOfferChangedEvent.saved(
+                response(2L, "Kotlin Developer", "Android", "Hamburg", true)));
+
+        assertThat(index.search("react")).isEmpty();
+        assertThat(index.search("munich")).isEmpty();
+        assertThat(index.search("kotlin hamburg")).containsExactly(2);
+        assertThat(index.searchRanked("kotlin")).singleElement()
+                .satisfies(hit -> assertThat(hit.offer().location()).isEqualTo("Hamburg"));
+        assertThat(index.search("developer")).containsExactly(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should drop deleted and deactivated offers")
+    void onJobOfferChanged_WhenDeletedOrInactive_ShouldRemoveOffer() {
+        int termsBefore = index.termCount();
+
+        index.onJobOfferChanged(JobOfferChangedEvent.deleted(2L));
+        index.onJobOfferChanged(JobOfferChangedEvent.saved(
+                response(3L, "Java Architect", "Microservices on Kubernetes", "Berlin", false)));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("java")).containsExactly(1);
+        assertThat(index.search("kubernetes")).isEmpty();
+        assertThat(index.termCount()).isLessThan(termsBefore);
+    }
+
+    @Test
+    @DisplayName("Should report its size and heap footprint as gauges")
+    void metrics_ShouldExposeFootprint() {
+        assertThat(meterRegistry.get("search.index.documents").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("search.index.terms").gauge().value()).isEqualTo(index.termCount());
+        assertThat(meterRegistry.get("search.index.heap").gauge().value()).isPositive();
+    }
+
+    private static JobOffer offer(Long id, String title, String description, String location) {
+        return JobOffer.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .location(location)
+                .employmentType("FULL_TIME")
+                .build();
+    }
+
+    private static JobOfferResponseDTO response(Long id, String title, String description, String location, boolean active) {
+        return new JobOfferResponseDTO(id, title, description, location, "FULL_TIME", active, LocalDateTime.now(), null);
+    }
+}